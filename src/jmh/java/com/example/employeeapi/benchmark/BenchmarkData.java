@@ -0,0 +1,56 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.service.EmployeeMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, so results of two runs describe the same data.
+ */
+final class BenchmarkData {
+
+    static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Marketing", "Support", "Operations"};
+
+    private BenchmarkData() {
+    }
+
+    static EmployeeRequest request(int i) {
+        return new EmployeeRequest(
+                "Employee " + i,
+                "Position " + (i % 40),
+                DEPARTMENTS[i % DEPARTMENTS.length],
+                BigDecimal.valueOf(30_000 + (i * 37L) % 170_000, 2),
+                "employee" + i + "@example.com",
+                "+1555" + String.format("%07d", i),
+                LocalDate.of(2015, 1, 1).plusDays(i % 3000)
+        );
+    }
+
+    // Entity as the repository hands it back: id and audit dates filled in
+    static Employee employee(int i) {
+        Employee employee = EmployeeMapper.toEntity(request(i));
+        employee.setId((long) i + 1);
+        employee.setCreatedAt(Instant.parse("2024-01-01T09:00:00Z"));
+        employee.setUpdatedAt(Instant.parse("2024-06-01T09:00:00Z"));
+        return employee;
+    }
+
+    static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    static List<EmployeeResponse> responses(int count) {
+        return employees(count).stream().map(EmployeeMapper::toResponse).toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeeapi.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point used by {@code mvn -Pbenchmark verify}. Arguments: the JSON result file, then an optional
+ * include regex. The JSON is JMH's standard format, so two runs can be compared with any JMH
+ * visualizer or a plain diff.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String result = args.length > 0 ? args[0] : "target/jmh-result.json";
+        String include = args.length > 1 ? args[1] : ".*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .shouldFailOnError(true)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.apikey.ApiKeyProperties;
+import com.example.employeeapi.apikey.ApiKeyRegistry;
+import com.example.employeeapi.config.ApiKeyAuthFilter;
+import com.example.employeeapi.config.LoggingFilter;
+import com.example.employeeapi.ratelimit.InMemoryRateLimitStore;
+import com.example.employeeapi.ratelimit.StripedRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the custom filters, in the order SecurityConfig registers them, in front of
+ * an empty servlet. Logging goes to a file appender (see logback-benchmark.xml) as it does in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterChainBenchmark {
+
+    private static final String API_KEY = "benchmark-api-key";
+
+    private final HttpServlet servlet = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+        }
+    };
+    private LoggingFilter loggingFilter;
+    private ApiKeyAuthFilter apiKeyAuthFilter;
+
+    @Setup
+    public void setUp() {
+        loggingFilter = new LoggingFilter(1.0);
+        // Quota high enough never to throttle, so the bucket is measured but never rejects
+        ApiKeyRegistry registry = new ApiKeyRegistry(
+                List.of(new ApiKeyProperties.Client("benchmark", API_KEY, null, new ApiKeyProperties.Quota(1e9, 1_000_000_000))),
+                ApiKeyProperties.UNLIMITED, new StripedRateLimiter(new InMemoryRateLimitStore(), 4), new SimpleMeterRegistry());
+        apiKeyAuthFilter = new ApiKeyAuthFilter(registry, new ObjectMapper());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse protectedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/42");
+        request.addHeader("X-API-Key", API_KEY);
+        return run(request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse publicRequest() throws ServletException, IOException {
+        return run(new MockHttpServletRequest("GET", "/actuator/health"));
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(servlet, loggingFilter, apiKeyAuthFilter).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.service.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/API conversions on their own; a page of 100 matches the default list limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private Employee employee;
+    private EmployeeRequest request;
+    private List<Employee> page;
+
+    @Setup
+    public void setUp() {
+        employee = BenchmarkData.employee(42);
+        request = BenchmarkData.request(42);
+        page = BenchmarkData.employees(100);
+    }
+
+    @Benchmark
+    public EmployeeResponse toResponse() {
+        return EmployeeMapper.toResponse(employee);
+    }
+
+    @Benchmark
+    public Employee toEntity() {
+        return EmployeeMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> toResponsePage() {
+        List<EmployeeResponse> responses = new ArrayList<>(page.size());
+        for (Employee e : page) {
+            responses.add(EmployeeMapper.toResponse(e));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import com.example.employeeapi.service.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository reads against an in-memory H2 database (PostgreSQL mode) seeded with {@link #rows}
+ * employees. Only JPA and the datasource are started; security, web and the application's own
+ * properties are left out, so numbers reflect query + mapping cost rather than a real network round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository repository;
+    private long middleId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaOnly.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        // Keeps application.properties (Postgres, Auth0) out of the benchmark context
+                        "spring.config.name=benchmark",
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true")
+                .run();
+        repository = context.getBean(EmployeeRepository.class);
+
+        List<Employee> employees = BenchmarkData.employees(rows);
+        employees.forEach(employee -> employee.setId(null));
+        repository.saveAll(employees);
+        middleId = employees.get(rows / 2).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> keysetPage() {
+        return repository.findByIdGreaterThanOrderByIdAsc(middleId, Limit.of(101)).stream()
+                .map(EmployeeMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> departmentPage() {
+        return repository.findByDepartmentAndIdGreaterThanOrderByIdAsc(BenchmarkData.DEPARTMENTS[0], middleId, Limit.of(101))
+                .stream()
+                .map(EmployeeMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public EmployeeResponse findById() {
+        return repository.findById(middleId).map(EmployeeMapper::toResponse).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Object[]> salaryDistribution() {
+        return repository.findSalaryDistributionByDepartment();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Employee.class)
+    @EnableJpaRepositories(basePackageClasses = EmployeeRepository.class)
+    static class JpaOnly {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.model.EmployeePageResponse;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of response bodies, with the same ObjectMapper defaults Spring Boot applies
+ * (ISO dates, no timestamps).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectWriter listWriter;
+    private ObjectWriter pageWriter;
+    private List<EmployeeResponse> employees;
+    private EmployeePageResponse page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EmployeeResponse.class));
+        pageWriter = objectMapper.writerFor(EmployeePageResponse.class);
+        employees = BenchmarkData.responses(size);
+        page = new EmployeePageResponse(employees, size, "aWQ6MTAw");
+    }
+
+    @Benchmark
+    public byte[] employeeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] employeePage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.EmployeeApiApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first request: from {@code SpringApplication.run} to the first answered HTTP request, in a fresh
+ * JVM per fork so every sample is a cold start. The whole application starts, with an in-memory H2 database
+ * standing in for Postgres (schema from Hibernate, since the migrations are Postgres SQL) and an unreachable
+ * identity provider, so the JWKS fetch must stay off the startup path. JVM startup itself is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    private static final String[] ARGS = {
+            // Command line arguments, so they win over application.properties
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.config=classpath:logback-benchmark.xml",
+            "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.flyway.enabled=false",
+            "--employee.reactive.enabled=false",
+            "--auth0.jwk-set-uri=http://127.0.0.1:1/.well-known/jwks.json",
+            "--auth0.jwks-file="
+    };
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public int timeToFirstRequest() throws IOException, InterruptedException {
+        context = SpringApplication.run(EmployeeApiApplication.class, ARGS);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/liveness")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("First request answered " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
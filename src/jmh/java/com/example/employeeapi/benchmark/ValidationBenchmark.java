@@ -0,0 +1,57 @@
+package com.example.employeeapi.benchmark;
+
+import com.example.employeeapi.model.EmployeeRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean validation of {@link EmployeeRequest}, as done for every write and every bulk item.
+ * The invalid request trips several constraints, so message interpolation is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private EmployeeRequest valid;
+    private EmployeeRequest invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkData.request(7);
+        invalid = BenchmarkData.request(8);
+        invalid.setName("X");
+        invalid.setEmail("not-an-email");
+        invalid.setPhone("12");
+        invalid.setSalary(BigDecimal.ZERO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeRequest>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeRequest>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
@@ -2,8 +2,12 @@ package com.example.employeeapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// A ConnectionFactory bean would switch off the JDBC DataSource; ReactiveReadConfig builds its own pool
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@EnableScheduling
 public class EmployeeApiApplication {
 
 	public static void main(String[] args) {
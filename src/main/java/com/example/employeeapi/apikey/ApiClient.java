@@ -0,0 +1,42 @@
+package com.example.employeeapi.apikey;
+
+import com.example.employeeapi.config.ApiKeyAuthentication;
+import com.example.employeeapi.ratelimit.StripedRateLimiter;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * A registered API client with everything the filter needs per request prepared up front: its rate
+ * limit bucket, its (immutable, pre-authenticated) {@link ApiKeyAuthentication} and its meters.
+ */
+public final class ApiClient {
+
+    private final String name;
+    private final StripedRateLimiter.Bucket bucket;
+    private final ApiKeyAuthentication authentication;
+    private final Counter allowed;
+    private final Counter throttled;
+
+    ApiClient(String name, StripedRateLimiter.Bucket bucket, ApiKeyAuthentication authentication,
+              Counter allowed, Counter throttled) {
+        this.name = name;
+        this.bucket = bucket;
+        this.authentication = authentication;
+        this.allowed = allowed;
+        this.throttled = throttled;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ApiKeyAuthentication authentication() {
+        return authentication;
+    }
+
+    /** 0 when the request is within quota, otherwise nanoseconds until it would be. */
+    public long tryAcquire() {
+        long wait = bucket == null ? 0 : bucket.tryAcquire();
+        (wait == 0 ? allowed : throttled).increment();
+        return wait;
+    }
+}
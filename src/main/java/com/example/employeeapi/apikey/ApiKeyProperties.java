@@ -0,0 +1,29 @@
+package com.example.employeeapi.apikey;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * {@code employee.api-keys.*}: the API clients allowed in with {@code X-API-Key} and their quotas.
+ * A client gives either its {@code key} or, to keep keys out of config, the hex {@code sha256} of it;
+ * a client without its own quota gets {@code default-quota}. The legacy {@code auth0.api-key} client
+ * gets {@code legacy-quota}, unlimited when not set.
+ */
+@ConfigurationProperties("employee.api-keys")
+public record ApiKeyProperties(Quota defaultQuota, Quota legacyQuota, int stripes, List<Client> clients) {
+
+    public static final Quota UNLIMITED = new Quota(0, 0);
+
+    public ApiKeyProperties {
+        legacyQuota = legacyQuota == null ? UNLIMITED : legacyQuota;
+        clients = clients == null ? List.of() : List.copyOf(clients);
+    }
+
+    // requestsPerSecond <= 0 means unlimited
+    public record Quota(double requestsPerSecond, int burst) {
+    }
+
+    public record Client(String name, String key, String sha256, Quota quota) {
+    }
+}
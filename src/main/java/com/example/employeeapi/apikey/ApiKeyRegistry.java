@@ -0,0 +1,106 @@
+package com.example.employeeapi.apikey;
+
+import com.example.employeeapi.config.ApiKeyAuthentication;
+import com.example.employeeapi.ratelimit.StripedRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API keys by SHA-256. Only hashes are kept, and lookups hash the presented key first, so the hash
+ * map's early-exit comparisons can only leak timing about digests, never about the keys; the final
+ * check is a constant-time {@link MessageDigest#isEqual}. The map is immutable after construction,
+ * so lookups take no locks.
+ */
+@Slf4j
+public class ApiKeyRegistry {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Map<String, Entry> clients;
+    private final MessageDigest sha256;
+
+    public ApiKeyRegistry(List<ApiKeyProperties.Client> clients, ApiKeyProperties.Quota defaultQuota,
+                          StripedRateLimiter limiter, MeterRegistry meterRegistry) {
+        this.sha256 = newDigest();
+        Map<String, Entry> byHash = new HashMap<>();
+        for (ApiKeyProperties.Client client : clients) {
+            byte[] hash = hashOf(client);
+            ApiKeyProperties.Quota quota = client.quota() != null ? client.quota() : defaultQuota;
+            ApiClient apiClient = new ApiClient(client.name(),
+                    limiter.bucket("api-key:" + client.name(), quota.requestsPerSecond(), quota.burst()),
+                    new ApiKeyAuthentication(client.name(), AuthorityUtils.NO_AUTHORITIES),
+                    counter(meterRegistry, client.name(), "allowed"),
+                    counter(meterRegistry, client.name(), "throttled"));
+            if (byHash.put(HEX.formatHex(hash), new Entry(hash, apiClient)) != null) {
+                throw new IllegalStateException("API key of client " + client.name() + " is registered twice");
+            }
+            log.info("🔑 API client {}: {}", client.name(), quota.requestsPerSecond() > 0
+                    ? quota.requestsPerSecond() + " req/s, burst " + quota.burst() : "unlimited");
+        }
+        this.clients = Map.copyOf(byHash);
+    }
+
+    /** The client owning {@code apiKey}, or null for a missing or unknown key. */
+    public ApiClient find(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            return null;
+        }
+        byte[] hash = digest(apiKey);
+        Entry entry = clients.get(HEX.formatHex(hash));
+        return entry != null && MessageDigest.isEqual(entry.hash, hash) ? entry.client : null;
+    }
+
+    public int size() {
+        return clients.size();
+    }
+
+    private byte[] hashOf(ApiKeyProperties.Client client) {
+        if (client.name() == null || client.name().isBlank()) {
+            throw new IllegalStateException("API client without a name");
+        }
+        if (client.sha256() != null && !client.sha256().isBlank()) {
+            return HEX.parseHex(client.sha256().trim());
+        }
+        if (client.key() != null && !client.key().isBlank()) {
+            return digest(client.key());
+        }
+        throw new IllegalStateException("API client " + client.name() + " has neither key nor sha256");
+    }
+
+    // Cloning a prototype is much cheaper than MessageDigest.getInstance on every request
+    private byte[] digest(String value) {
+        try {
+            return ((MessageDigest) sha256.clone()).digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException ex) {
+            return newDigest().digest(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String client, String outcome) {
+        return Counter.builder("api.client.requests")
+                .description("Requests per API client, by rate limit outcome")
+                .tags("client", client, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Entry(byte[] hash, ApiClient client) {
+    }
+}
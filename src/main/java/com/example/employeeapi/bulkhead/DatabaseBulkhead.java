@@ -0,0 +1,111 @@
+package com.example.employeeapi.bulkhead;
+
+import com.example.employeeapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many callers hold a database connection at once. Sized to the connection pool, so the pool
+ * itself never queues; callers wait here instead, in FIFO order, up to {@code maxQueued} of them and for
+ * at most {@code maxWait}. Anything beyond that is rejected with {@link DatabaseBusyException} rather than
+ * parking more (virtual) threads.
+ * <p>
+ * Metrics: {@code db.bulkhead.available}, {@code db.bulkhead.queued}, {@code db.bulkhead.wait} and
+ * {@code db.bulkhead.rejected} (tagged with the reason).
+ */
+public class DatabaseBulkhead {
+
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final Duration maxWait;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    // Rejections happen in bursts under overload; stackless exceptions can be created once and reused
+    private final DatabaseBusyException queueFull;
+    private final DatabaseBusyException timedOut;
+    private final DatabaseBusyException interrupted;
+
+    public DatabaseBulkhead(int maxConcurrent, int maxQueued, Duration maxWait, long retryAfterSeconds,
+                            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+        this.queueFull = new DatabaseBusyException("Too many requests waiting for the database", retryAfterSeconds);
+        this.timedOut = new DatabaseBusyException("Timed out waiting for the database", retryAfterSeconds);
+        this.interrupted = new DatabaseBusyException("Interrupted while waiting for the database", retryAfterSeconds);
+
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Database permits currently free")
+                .register(meterRegistry);
+        Gauge.builder("db.bulkhead.queued", queued, AtomicInteger::get)
+                .description("Callers waiting for a database permit")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("db.bulkhead.wait")
+                .description("Time spent waiting for a database permit")
+                .register(meterRegistry);
+        rejectedQueueFull = rejectedCounter(meterRegistry, "queue_full");
+        rejectedTimeout = rejectedCounter(meterRegistry, "timeout");
+    }
+
+    /** Blocks until a permit is free; every successful call must be paired with {@link #release()}. */
+    public void acquire() {
+        // Zero-timeout tryAcquire still respects fairness, unlike tryAcquire()
+        if (tryAcquire(0)) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw queueFull;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!tryAcquire(maxWait.toNanos())) {
+                rejectedTimeout.increment();
+                throw timedOut;
+            }
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw interrupted;
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("db.bulkhead.rejected")
+                .description("Database accesses rejected by the bulkhead")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
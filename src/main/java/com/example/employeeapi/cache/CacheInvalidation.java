@@ -0,0 +1,8 @@
+package com.example.employeeapi.cache;
+
+/**
+ * Eviction notice sent between replicas. {@code origin} identifies the sending node so it can
+ * ignore its own messages.
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) {
+}
@@ -0,0 +1,15 @@
+package com.example.employeeapi.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport for cache evictions between replicas (e.g. Redis pub/sub or Postgres LISTEN/NOTIFY).
+ * Implementations must deliver every published message to all subscribers on all nodes,
+ * including the sender.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
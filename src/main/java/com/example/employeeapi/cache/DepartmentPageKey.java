@@ -0,0 +1,22 @@
+package com.example.employeeapi.cache;
+
+import com.example.employeeapi.service.EmployeeCursor;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Cache key for one page of a department listing. Keeping the department as a typed component lets
+ * {@link EmployeeCacheInvalidator} drop every cached page of exactly one department.
+ */
+public record DepartmentPageKey(String department, long afterId, int limit) {
+
+    /** Key generator for {@code getEmployeesByDepartment(department, cursor, limit)}. */
+    public static class Generator implements KeyGenerator {
+
+        @Override
+        public Object generate(Object target, Method method, Object... params) {
+            return new DepartmentPageKey((String) params[0], EmployeeCursor.decode((String) params[1]), (Integer) params[2]);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.employeeapi.cache;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evicts cached employees once a change has committed, locally and on every other replica through
+ * the {@link CacheInvalidationBus}. Evicting after commit (rather than with {@code @CacheEvict})
+ * avoids a concurrent reader re-caching the old row before the write is visible.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeCacheInvalidator {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+    public static final String DEPARTMENTS_CACHE = "departments";
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    // Employee evictions so far, local and from other nodes; lets manual cache fills detect a racing eviction
+    private final AtomicLong employeeEvictions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(invalidation -> {
+            if (!nodeId.equals(invalidation.origin())) {
+                evictLocally(invalidation.cacheName(), invalidation.key());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        // Nothing is cached by id for an employee that did not exist yet
+        if (event.type() != EmployeeChangedEvent.ChangeType.CREATED) {
+            evict(EMPLOYEES_CACHE, event.id());
+        }
+        // Both sides of a department move: the old listing loses the row, the new one gains it
+        if (event.previous() != null) {
+            evict(DEPARTMENTS_CACHE, event.previous().getDepartment());
+        }
+        if (event.current() != null
+                && (event.previous() == null || !Objects.equals(event.current().getDepartment(), event.previous().getDepartment()))) {
+            evict(DEPARTMENTS_CACHE, event.current().getDepartment());
+        }
+    }
+
+    /** Read before loading employees to cache, then pass to {@link #putIfNotEvicted}. */
+    public long employeeEvictions() {
+        return employeeEvictions.get();
+    }
+
+    /**
+     * Caches an employee loaded after {@code evictionsBeforeLoad} was read. If any employee eviction ran
+     * since, it may have been for this row and the loaded copy may be older than the committed one, so
+     * the entry is dropped again: an eviction either sees the entry or bumps the count checked here.
+     */
+    public void putIfNotEvicted(Cache cache, Object key, Object value, long evictionsBeforeLoad) {
+        cache.putIfAbsent(key, value);
+        if (employeeEvictions.get() != evictionsBeforeLoad) {
+            cache.evict(key);
+        }
+    }
+
+    public void evict(String cacheName, Object key) {
+        evictLocally(cacheName, key);
+        invalidationBus.publish(new CacheInvalidation(nodeId, cacheName, key));
+    }
+
+    // For the departments cache the key is a department name and every cached page of it is dropped
+    private void evictLocally(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (!DEPARTMENTS_CACHE.equals(cacheName)) {
+            if (EMPLOYEES_CACHE.equals(cacheName)) {
+                employeeEvictions.incrementAndGet();
+            }
+            cache.evict(key);
+        } else if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> pages) {
+            pages.asMap().keySet().removeIf(k -> k instanceof DepartmentPageKey page && page.department().equals(key));
+        } else {
+            cache.clear(); // unknown store; over-evicting is always safe
+        }
+        log.debug("Evicted {} from cache {}", key, cacheName);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.employeeapi.cache;
+
+import com.example.employeeapi.model.EmployeePageResponse;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ready-to-write UTF-8 JSON per employee, so hot reads skip Jackson. Fragments are keyed by id and
+ * only used while their version matches the response being served, so a fragment can never be
+ * older than the data next to it; update and delete evictions from the {@link CacheInvalidationBus}
+ * just free the memory early. Bounded by a byte budget (JSON plus the optional gzip copy), not by
+ * an entry count.
+ * <p>
+ * Metrics: the {@code cache.*} meters of the {@code employeeJson} cache.
+ */
+@Slf4j
+@Component
+public class EmployeeJsonCache {
+
+    private static final byte[] ITEMS_PLACEHOLDER = "\"items\":[]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = {','};
+    // Approximate per-entry overhead (key, node, arrays) so many tiny fragments still respect the budget
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final boolean gzipEnabled;
+    private final Cache<Long, Fragment> cache;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper,
+                             CacheInvalidationBus invalidationBus,
+                             MeterRegistry meterRegistry,
+                             @Value("${employee.json-cache.max-bytes}") long maxBytes,
+                             @Value("${employee.json-cache.gzip}") boolean gzipEnabled) {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.gzipEnabled = gzipEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Fragment fragment) -> fragment.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeJson");
+        log.info("🗄️ Pre-serialized employee JSON cache: {} bytes, gzip {}", maxBytes, gzipEnabled ? "on" : "off");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(invalidation -> {
+            if (EmployeeCacheInvalidator.EMPLOYEES_CACHE.equals(invalidation.cacheName())
+                    && invalidation.key() instanceof Long id) {
+                cache.invalidate(id);
+            }
+        });
+    }
+
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    /** The employee serialized exactly as Jackson would write it. */
+    public byte[] json(EmployeeResponse employee) {
+        return fragment(employee).json();
+    }
+
+    /** The same JSON, gzip-compressed; only available when the gzip variant is enabled. */
+    public byte[] gzip(EmployeeResponse employee) {
+        if (!gzipEnabled) {
+            throw new IllegalStateException("Gzip variant is disabled");
+        }
+        return fragment(employee).gzip();
+    }
+
+    /**
+     * The page as a list of byte arrays that concatenate to the JSON Jackson would write for it: the
+     * envelope is serialized once with an empty item list and the cached fragments are spliced in.
+     */
+    public JsonFragments page(EmployeePageResponse page) {
+        byte[] shell = serialize(new EmployeePageResponse(List.of(), page.getLimit(), page.getNextCursor()));
+        int items = indexOf(shell, ITEMS_PLACEHOLDER);
+        if (items < 0) {
+            // Serialization settings changed the envelope; fall back to one Jackson pass
+            return new JsonFragments(List.of(serialize(page)));
+        }
+        int open = items + ITEMS_PLACEHOLDER.length - 1;
+        List<byte[]> parts = new ArrayList<>(page.getItems().size() * 2 + 2);
+        parts.add(Arrays.copyOfRange(shell, 0, open));
+        for (int i = 0; i < page.getItems().size(); i++) {
+            if (i > 0) {
+                parts.add(COMMA);
+            }
+            parts.add(json(page.getItems().get(i)));
+        }
+        parts.add(Arrays.copyOfRange(shell, open, shell.length));
+        return new JsonFragments(parts);
+    }
+
+    private Fragment fragment(EmployeeResponse employee) {
+        Long id = employee.getId();
+        Fragment cached = cache.getIfPresent(id);
+        if (cached != null && Objects.equals(cached.version(), employee.getVersion())) {
+            return cached;
+        }
+        byte[] json = serialize(employee);
+        Fragment fragment = new Fragment(employee.getVersion(), json, gzipEnabled ? compress(json) : null);
+        // Never replace a newer fragment with one built from an older response
+        cache.asMap().merge(id, fragment, (current, candidate) -> isNewer(candidate, current) ? candidate : current);
+        return fragment;
+    }
+
+    private static boolean isNewer(Fragment candidate, Fragment current) {
+        return current.version() == null
+                || (candidate.version() != null && candidate.version() >= current.version());
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record Fragment(Long version, byte[] json, byte[] gzip) {
+
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
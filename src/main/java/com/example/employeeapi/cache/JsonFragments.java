@@ -0,0 +1,18 @@
+package com.example.employeeapi.cache;
+
+import java.util.List;
+
+/**
+ * A JSON document held as consecutive byte ranges, written back-to-back by
+ * {@link JsonFragmentsHttpMessageConverter} without being joined first.
+ */
+public record JsonFragments(List<byte[]> parts) {
+
+    public long length() {
+        long length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        return length;
+    }
+}
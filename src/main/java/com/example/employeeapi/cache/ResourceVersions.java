@@ -0,0 +1,55 @@
+package com.example.employeeapi.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregate versions for the collection endpoints, so a conditional GET can be answered with 304
+ * before touching the cache or the database. Every committed change reaches this node as a
+ * message on the {@link CacheInvalidationBus} (from any replica), and each message bumps the
+ * counters it affects.
+ *
+ * <p>Tags carry a per-process epoch, so a restart (or another replica) never reuses a tag for
+ * different content; the worst case is an extra 200. The bump lands just after commit, so a
+ * reader may briefly keep getting 304 for the previous state, the same window as the caches.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    private final CacheInvalidationBus invalidationBus;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong global = new AtomicLong();
+    private final Map<String, AtomicLong> departments = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    void onInvalidation(CacheInvalidation invalidation) {
+        // Every change sends at least one departments eviction, so the global counter never misses one
+        if (EmployeeCacheInvalidator.DEPARTMENTS_CACHE.equals(invalidation.cacheName())
+                && invalidation.key() instanceof String department) {
+            departments.computeIfAbsent(department, d -> new AtomicLong()).incrementAndGet();
+        }
+        global.incrementAndGet();
+    }
+
+    /** Changes whenever any employee is created, updated or deleted. */
+    public String allEmployeesTag() {
+        return "\"" + epoch + "." + global.get() + "\"";
+    }
+
+    /** Changes whenever an employee joins, leaves or changes inside the department. */
+    public String departmentTag(String department) {
+        // Read-only lookup: unknown departments must not grow the map
+        AtomicLong version = departments.get(department);
+        return "\"" + epoch + ".d" + (version == null ? 0 : version.get()) + "\"";
+    }
+}
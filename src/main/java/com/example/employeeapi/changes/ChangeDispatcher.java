@@ -0,0 +1,327 @@
+package com.example.employeeapi.changes;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.exception.SubscriberLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed changes from the outbox out to Server-Sent Events subscribers.
+ * <p>
+ * One poller thread tails {@code employee_changes} (woken right after local commits, and every
+ * poll interval for changes made by other replicas) and appends new entries to an in-memory
+ * {@link ChangeRing}. It never writes to clients. Each subscriber only has a cursor: when signalled,
+ * its sender task (a virtual thread, at most one per subscriber) pulls the next batch from the ring,
+ * or from the table when it has fallen behind the ring, and writes it. A slow client therefore slows
+ * only its own sender, and holds at most one batch in memory however far behind it is.
+ * <p>
+ * Offsets come from an identity column, so a transaction can commit a lower offset after a higher
+ * one is already visible. The poller does not pass a missing offset until {@code gap-timeout-ms}
+ * has elapsed (it is then assumed rolled back), so subscribers never skip a late commit.
+ * <p>
+ * Metrics: {@code employee.changes.subscribers}.
+ */
+@Slf4j
+@Component
+public class ChangeDispatcher {
+
+    private static final SubscriberLimitException TOO_MANY_SUBSCRIBERS =
+            new SubscriberLimitException("Too many change stream subscribers", 5);
+
+    private final ChangeOutbox outbox;
+    private final int batchSize;
+    private final int ringSize;
+    private final int maxSubscribers;
+    private final long pollIntervalMs;
+    private final long gapTimeoutNanos;
+    private final long emitterTimeoutMs;
+    private final Duration retention;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Object wakeup = new Object();
+    private boolean nudged;
+    private volatile boolean running;
+    private volatile ChangeRing ring;
+    private Thread poller;
+
+    // Poller thread only
+    private long gapOffset = -1;
+    private long gapSinceNanos;
+
+    public ChangeDispatcher(ChangeOutbox outbox,
+                            MeterRegistry meterRegistry,
+                            @Value("${employee.changes.batch-size}") int batchSize,
+                            @Value("${employee.changes.ring-size}") int ringSize,
+                            @Value("${employee.changes.max-subscribers}") int maxSubscribers,
+                            @Value("${employee.changes.poll-interval-ms}") long pollIntervalMs,
+                            @Value("${employee.changes.gap-timeout-ms}") long gapTimeoutMs,
+                            @Value("${employee.changes.emitter-timeout-ms}") long emitterTimeoutMs,
+                            @Value("${employee.changes.retention-hours}") long retentionHours) {
+        this.outbox = outbox;
+        this.batchSize = batchSize;
+        this.ringSize = ringSize;
+        this.maxSubscribers = maxSubscribers;
+        this.pollIntervalMs = pollIntervalMs;
+        this.gapTimeoutNanos = Duration.ofMillis(gapTimeoutMs).toNanos();
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.retention = Duration.ofHours(retentionHours);
+        Gauge.builder("employee.changes.subscribers", subscribers, Set::size)
+                .description("Open change stream (SSE) connections")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ring = new ChangeRing(ringSize, outbox.latestOffset());
+        running = true;
+        poller = Thread.ofPlatform().daemon().name("change-dispatcher").start(this::pollLoop);
+        log.info("📣 Change stream dispatching from offset {}", ring.last());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    // The outbox row is committed by now; no need to wait for the next poll
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (wakeup) {
+            nudged = true;
+            wakeup.notifyAll();
+        }
+    }
+
+    /**
+     * Opens a stream of changes after {@code after}, or from now on when null. Older offsets are
+     * replayed first; one that has already been purged starts with a {@code reset} event.
+     */
+    public SseEmitter subscribe(Long after) {
+        ChangeRing current = ring;
+        if (current == null) {
+            throw new IllegalStateException("Change stream is not ready yet");
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw TOO_MANY_SUBSCRIBERS;
+        }
+        Subscriber subscriber = new Subscriber(newEmitter(emitterTimeoutMs), after == null ? current.last() : after);
+        subscriber.emitter.onCompletion(() -> close(subscriber));
+        subscriber.emitter.onTimeout(() -> close(subscriber));
+        subscriber.emitter.onError(ex -> close(subscriber));
+        subscribers.add(subscriber);
+        signal(subscriber);
+        return subscriber.emitter;
+    }
+
+    // Overridden in tests, where no servlet container sends events or completes emitters
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    @Scheduled(fixedRateString = "${employee.changes.heartbeat-interval-ms}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            signal(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.purge-interval-ms}")
+    public void purge() {
+        int purged = outbox.purgeOlderThan(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} change stream entries older than {}", purged, retention);
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                poll();
+            } catch (RuntimeException ex) {
+                log.warn("Change stream poll failed: {}", ex.getMessage());
+            }
+            synchronized (wakeup) {
+                if (!nudged) {
+                    try {
+                        wakeup.wait(pollIntervalMs);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                nudged = false;
+            }
+        }
+    }
+
+    private void poll() {
+        List<OutboxEntry> rows;
+        int appended;
+        do {
+            rows = outbox.read(ring.last(), Long.MAX_VALUE, batchSize);
+            appended = advance(rows);
+            if (appended > 0) {
+                subscribers.forEach(this::signal);
+            }
+        } while (rows.size() == batchSize && appended == rows.size());
+    }
+
+    // Appends rows in offset order, stopping at a gap that may still be filled by a late commit
+    private int advance(List<OutboxEntry> rows) {
+        int appended = 0;
+        long expected = ring.last() + 1;
+        for (OutboxEntry row : rows) {
+            if (row.offset() != expected) {
+                long now = System.nanoTime();
+                if (gapOffset != expected) {
+                    gapOffset = expected;
+                    gapSinceNanos = now;
+                }
+                if (now - gapSinceNanos < gapTimeoutNanos) {
+                    break;
+                }
+                log.debug("Change stream offsets {}..{} never committed; skipping", expected, row.offset() - 1);
+            }
+            ring.append(row);
+            expected = row.offset() + 1;
+            gapOffset = -1;
+            appended++;
+        }
+        return appended;
+    }
+
+    // At most one sender per subscriber runs at a time; signals arriving meanwhile make it loop again
+    private void signal(Subscriber subscriber) {
+        if (subscriber.wip.getAndIncrement() == 0) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RuntimeException ex) {
+                close(subscriber); // shutting down
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        int missed = 1;
+        do {
+            try {
+                send(subscriber);
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Change stream subscriber dropped: {}", ex.getMessage());
+                close(subscriber);
+                return;
+            }
+            missed = subscriber.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void send(Subscriber subscriber) throws IOException {
+        if (!subscriber.started) {
+            subscriber.started = true;
+            resetIfPurged(subscriber);
+        }
+        boolean sent = false;
+        while (!subscriber.closed) {
+            List<OutboxEntry> batch = nextBatch(subscriber);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (OutboxEntry entry : batch) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(entry.offset()))
+                        .name(entry.type())
+                        .data(entry.payload()));
+                subscriber.cursor = entry.offset();
+            }
+            sent = true;
+        }
+        if (subscriber.heartbeatDue && !sent && !subscriber.closed) {
+            subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+        }
+        subscriber.heartbeatDue = false;
+    }
+
+    private List<OutboxEntry> nextBatch(Subscriber subscriber) {
+        ChangeRing current = ring;
+        long floor = current.floor();
+        if (subscriber.cursor >= floor) {
+            return current.after(subscriber.cursor, batchSize);
+        }
+        // Behind the ring: catch up from the table, which holds everything up to the floor
+        List<OutboxEntry> rows = outbox.read(subscriber.cursor, floor, batchSize);
+        if (rows.isEmpty()) {
+            subscriber.cursor = floor;
+            return current.after(floor, batchSize);
+        }
+        return rows;
+    }
+
+    // A cursor older than anything retained cannot be replayed; the client has to reload and resume
+    private void resetIfPurged(Subscriber subscriber) throws IOException {
+        long floor = ring.floor();
+        if (subscriber.cursor >= floor) {
+            return;
+        }
+        long resumeFrom = Math.min(outbox.oldestOffset(), floor + 1) - 1;
+        if (subscriber.cursor < resumeFrom) {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(Long.toString(resumeFrom))
+                    .name("reset")
+                    .data("{\"resumeFrom\":" + resumeFrom + "}"));
+            subscriber.cursor = resumeFrom;
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException ignored) {
+            // already completed by the container
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicInteger wip = new AtomicInteger();
+        volatile long cursor;
+        volatile boolean heartbeatDue;
+        volatile boolean closed;
+        boolean started; // sender thread only
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employeeapi.changes;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes every {@link EmployeeChangedEvent} to the {@code employee_changes} outbox inside the
+ * transaction that made the change, so a change is in the stream if and only if it committed.
+ * Events of one transaction are collected and inserted as a single JDBC batch just before commit,
+ * which keeps bulk endpoints at one extra round trip.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeOutbox {
+
+    private static final String INSERT =
+            "INSERT INTO employee_changes (change_type, employee_id, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String READ_AFTER =
+            "SELECT id, change_type, payload FROM employee_changes WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Synchronous on purpose: it must run inside the publisher's transaction
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("Employee change {} published outside a transaction; writing it to the outbox on its own", event.id());
+            insert(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<EmployeeChangedEvent> pending = (List<EmployeeChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<EmployeeChangedEvent> batch = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(batch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeOutbox.this);
+                }
+            });
+            pending = batch;
+        }
+        pending.add(event);
+    }
+
+    /** Committed entries with {@code after < offset <= upTo}, oldest first. */
+    public List<OutboxEntry> read(long after, long upTo, int limit) {
+        return jdbcTemplate.query(READ_AFTER, (rs, rowNum) -> new OutboxEntry(
+                rs.getLong("id"), rs.getString("change_type").toLowerCase(Locale.ROOT), rs.getString("payload")),
+                after, upTo, limit);
+    }
+
+    public long latestOffset() {
+        Long latest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employee_changes", Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    /** Offset of the oldest retained entry, or {@link Long#MAX_VALUE} when the outbox is empty. */
+    public long oldestOffset() {
+        Long oldest = jdbcTemplate.queryForObject("SELECT MIN(id) FROM employee_changes", Long.class);
+        return oldest == null ? Long.MAX_VALUE : oldest;
+    }
+
+    public int purgeOlderThan(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM employee_changes WHERE created_at < ?", Timestamp.from(cutoff));
+    }
+
+    private void insert(List<EmployeeChangedEvent> events) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (EmployeeChangedEvent event : events) {
+            rows.add(new Object[]{event.type().name(), event.id(), serialize(event), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    private String serialize(EmployeeChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize change of employee " + event.id(), ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.employeeapi.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The most recent dispatched entries, in offset order, so live subscribers are served from memory.
+ * Offsets may have gaps (rolled-back inserts), so lookups binary-search instead of indexing.
+ * {@link #floor()} is the offset of the newest entry that is no longer held: cursors below it
+ * have to be served from the outbox table.
+ */
+final class ChangeRing {
+
+    private final OutboxEntry[] entries;
+    private final long[] offsets;
+    private int head; // index of the oldest entry
+    private int size;
+    private long floor;
+
+    ChangeRing(int capacity, long start) {
+        this.entries = new OutboxEntry[capacity];
+        this.offsets = new long[capacity];
+        this.floor = start;
+    }
+
+    synchronized void append(OutboxEntry entry) {
+        int capacity = entries.length;
+        if (size == capacity) {
+            floor = offsets[head];
+            head = (head + 1) % capacity;
+            size--;
+        }
+        int tail = (head + size) % capacity;
+        entries[tail] = entry;
+        offsets[tail] = entry.offset();
+        size++;
+    }
+
+    /** Offset of the newest entry appended so far (or the start position). */
+    synchronized long last() {
+        return size == 0 ? floor : offsets[(head + size - 1) % entries.length];
+    }
+
+    synchronized long floor() {
+        return floor;
+    }
+
+    /** Up to {@code max} entries after {@code cursor}; the caller must check {@code cursor >= floor()}. */
+    synchronized List<OutboxEntry> after(long cursor, int max) {
+        int first = firstAfter(cursor);
+        int count = Math.min(max, size - first);
+        List<OutboxEntry> result = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            result.add(entries[(head + first + i) % entries.length]);
+        }
+        return result;
+    }
+
+    // Logical position (0 = oldest) of the first entry with offset > cursor
+    private int firstAfter(long cursor) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[(head + mid) % offsets.length] <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.employeeapi.changes;
+
+/**
+ * One committed change as read back from the outbox. {@code type} is the lower-case change type
+ * (used as the SSE event name) and {@code payload} the serialized event.
+ */
+public record OutboxEntry(long offset, String type, String payload) {
+}
@@ -1,27 +1,41 @@
 package com.example.employeeapi.config;
 
 
+import com.example.employeeapi.apikey.ApiClient;
+import com.example.employeeapi.apikey.ApiKeyRegistry;
+import com.example.employeeapi.exception.ErrorResponse;
 import com.example.employeeapi.exception.InvalidApiKeyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.*;
-import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.List;
+import java.time.Instant;
 
+/**
+ * Authenticates {@code X-API-Key} against the {@link ApiKeyRegistry} and enforces the client's quota,
+ * answering 429 with {@code Retry-After} before the request gets anywhere near the database.
+ */
 @Slf4j
 public class ApiKeyAuthFilter extends OncePerRequestFilter {
 
-    private final String apiKey;
     private static final String API_KEY_HEADER = "X-API-Key";
-    private static final List<String> PROTECTED_PATHS = List.of("/api/employees", "/api/admin");
+    // Stackless and immutable, so one instance serves every rejected request
+    private static final InvalidApiKeyException INVALID_API_KEY = new InvalidApiKeyException("Invalid or missing API key");
+    private static final String[] PROTECTED_PATHS = {"/api/employees", "/api/admin"};
 
-    public ApiKeyAuthFilter(String apiKey) {
-        this.apiKey = apiKey;
+    private final ApiKeyRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    public ApiKeyAuthFilter(ApiKeyRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -32,15 +46,40 @@ public class ApiKeyAuthFilter extends OncePerRequestFilter {
 
         String path = request.getRequestURI();
 
-        boolean isProtected = PROTECTED_PATHS.stream().anyMatch(path::startsWith);
-        if (isProtected) {
-            String requestApiKey = request.getHeader(API_KEY_HEADER);
-            if (requestApiKey == null || !apiKey.equals(requestApiKey)) {
-                throw new InvalidApiKeyException("Invalid or missing API key");
+        if (isProtected(path)) {
+            ApiClient client = registry.find(request.getHeader(API_KEY_HEADER));
+            if (client == null) {
+                throw INVALID_API_KEY;
+            }
+            long waitNanos = client.tryAcquire();
+            if (waitNanos > 0) {
+                reject(request, response, client, waitNanos);
+                return;
             }
-            Authentication auth = new ApiKeyAuthentication(requestApiKey, AuthorityUtils.NO_AUTHORITIES);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            SecurityContextHolder.getContext().setAuthentication(client.authentication());
         }
         filterChain.doFilter(request, response);
     }
+
+    private static boolean isProtected(String path) {
+        for (String prefix : PROTECTED_PATHS) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Written here rather than thrown: the controller advice does not see exceptions from security filters
+    private void reject(HttpServletRequest request, HttpServletResponse response, ApiClient client,
+                        long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+        log.debug("API client {} over quota, retry after {}s", client.name(), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(Instant.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Rate limit exceeded for API client " + client.name(), request.getRequestURI()));
+    }
 }
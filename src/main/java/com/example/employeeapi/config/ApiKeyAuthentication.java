@@ -5,13 +5,16 @@ import org.springframework.security.core.GrantedAuthority;
 
 import java.util.Collection;
 
+/**
+ * An authenticated API client. The principal is the client name from the key registry, never the key.
+ */
 public class ApiKeyAuthentication extends AbstractAuthenticationToken {
 
-    private final String apiKey;
+    private final String clientName;
 
-    public ApiKeyAuthentication(String apiKey, Collection<? extends GrantedAuthority> authorities) {
+    public ApiKeyAuthentication(String clientName, Collection<? extends GrantedAuthority> authorities) {
         super(authorities);
-        this.apiKey = apiKey;
+        this.clientName = clientName;
         setAuthenticated(true);
     }
 
@@ -22,6 +25,6 @@ public class ApiKeyAuthentication extends AbstractAuthenticationToken {
 
     @Override
     public Object getPrincipal() {
-        return apiKey;
+        return clientName;
     }
 }
@@ -0,0 +1,45 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.apikey.ApiKeyProperties;
+import com.example.employeeapi.apikey.ApiKeyRegistry;
+import com.example.employeeapi.ratelimit.InMemoryRateLimitStore;
+import com.example.employeeapi.ratelimit.RateLimitStore;
+import com.example.employeeapi.ratelimit.StripedRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ApiKeyProperties.class)
+@Slf4j
+public class ApiKeyConfig {
+
+    public static final String LEGACY_CLIENT = "default";
+
+    @Value("${auth0.api-key}")
+    private String legacyApiKey;
+
+    @Bean
+    public ApiKeyRegistry apiKeyRegistry(ApiKeyProperties properties, ObjectProvider<RateLimitStore> rateLimitStores,
+                                         MeterRegistry meterRegistry) {
+        // Per-node quotas unless a shared RateLimitStore bean (e.g. Redis-backed) is defined
+        RateLimitStore rateLimitStore = rateLimitStores.getIfAvailable(InMemoryRateLimitStore::new);
+        List<ApiKeyProperties.Client> clients = new ArrayList<>(properties.clients());
+        // The single key this service used to accept keeps working; the whole frontend shares it, so it has its own quota
+        if (legacyApiKey != null && !legacyApiKey.isBlank()) {
+            clients.add(new ApiKeyProperties.Client(LEGACY_CLIENT, legacyApiKey, null, properties.legacyQuota()));
+        }
+        ApiKeyRegistry registry = new ApiKeyRegistry(clients, properties.defaultQuota(),
+                new StripedRateLimiter(rateLimitStore, properties.stripes()), meterRegistry);
+        log.info("🔑 {} API client(s) registered, rate limits kept in {}", registry.size(),
+                rateLimitStore.getClass().getSimpleName());
+        return registry;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.cache.CacheInvalidationBus;
+import com.example.employeeapi.cache.DepartmentPageKey;
+import com.example.employeeapi.cache.InMemoryCacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.DEPARTMENTS_CACHE;
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.EMPLOYEES_CACHE;
+
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+
+    @Value("${employee.cache.employees.spec}")
+    private String employeesSpec;
+
+    @Value("${employee.cache.departments.spec}")
+    private String departmentsSpec;
+
+    // One Caffeine spec per cache: department pages are far larger than single employees
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(EMPLOYEES_CACHE, Caffeine.from(employeesSpec).build());
+        cacheManager.registerCustomCache(DEPARTMENTS_CACHE, Caffeine.from(departmentsSpec).build());
+        log.info("🗄️ Caches configured: {}={}, {}={}", EMPLOYEES_CACHE, employeesSpec, DEPARTMENTS_CACHE, departmentsSpec);
+        return cacheManager;
+    }
+
+    @Bean
+    public KeyGenerator departmentPageKeyGenerator() {
+        return new DepartmentPageKey.Generator();
+    }
+
+    // Single node only. Running several replicas needs a shared transport (Redis, Postgres NOTIFY, ...):
+    // declare it as a @Primary CacheInvalidationBus bean and every subscriber gets it instead of this one
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        log.info("🗄️ Using in-memory cache invalidation bus (single node)");
+        return new InMemoryCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employeeapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that already passed signature and claim validation, so a token reused for many calls
+ * is verified once. Entries are keyed by the SHA-256 of the token (the raw token is never kept as a key)
+ * and expire at the token's {@code exp}, or after {@code maxTtl} if that comes first. Rejected tokens are
+ * not cached.
+ * <p>
+ * Metrics: {@code jwt.verify} (time spent in the delegate, by outcome) and the {@code cache.*} meters of
+ * the {@code jwt} cache for the hit rate.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Timer verifySuccess;
+    private final Timer verifyFailure;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+        this.verifySuccess = verifyTimer(meterRegistry, "success");
+        this.verifyFailure = verifyTimer(meterRegistry, "failure");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        // Concurrent first uses of one token share a single verification
+        return cache.get(hash(token), key -> verify(token));
+    }
+
+    private Jwt verify(String token) {
+        long start = System.nanoTime();
+        try {
+            Jwt jwt = delegate.decode(token);
+            verifySuccess.record(Duration.ofNanos(System.nanoTime() - start));
+            return jwt;
+        } catch (JwtException ex) {
+            verifyFailure.record(Duration.ofNanos(System.nanoTime() - start));
+            throw ex;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("JWT parsing, signature and claim validation on cache misses")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record UntilExpiry(Duration maxTtl) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration ttl = maxTtl;
+            if (jwt.getExpiresAt() != null) {
+                Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+                if (remaining.compareTo(ttl) < 0) {
+                    ttl = remaining.isNegative() ? Duration.ZERO : remaining;
+                }
+            }
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
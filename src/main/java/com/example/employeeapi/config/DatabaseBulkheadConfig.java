@@ -0,0 +1,53 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.bulkhead.BulkheadDataSource;
+import com.example.employeeapi.bulkhead.DatabaseBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "employee.db.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DatabaseBulkheadConfig {
+
+    @Value("${employee.db.bulkhead.permits}")
+    private int permits;
+
+    @Value("${employee.db.bulkhead.max-queued}")
+    private int maxQueued;
+
+    @Value("${employee.db.bulkhead.max-wait-ms}")
+    private long maxWaitMs;
+
+    @Value("${employee.db.bulkhead.retry-after-seconds}")
+    private long retryAfterSeconds;
+
+    @Bean
+    public DatabaseBulkhead databaseBulkhead(MeterRegistry meterRegistry) {
+        log.info("🚦 Database bulkhead: {} permits, up to {} queued for {}ms", permits, maxQueued, maxWaitMs);
+        return new DatabaseBulkhead(permits, maxQueued, Duration.ofMillis(maxWaitMs), retryAfterSeconds, meterRegistry);
+    }
+
+    // Static so it does not force this configuration (and its @Value fields) to initialize early
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<DatabaseBulkhead> bulkhead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, bulkhead.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
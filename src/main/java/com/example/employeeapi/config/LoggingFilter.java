@@ -1,51 +1,144 @@
 package com.example.employeeapi.config;
 
+import com.example.employeeapi.metrics.RequestProfileFilter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Writes one access record per request to the {@code access} logger (asynchronous, see logback-spring.xml)
+ * and tags the request with an id. Runs ahead of Spring Security so rejected requests are logged too.
+ * Latency per route is not logged here; it is the {@code http.server.requests} histogram.
+ */
 @Component
-
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class LoggingFilter extends OncePerRequestFilter {
 
-    private static final Logger logger = LoggerFactory.getLogger(LoggingFilter.class);
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    // Ids are <per-process prefix>-<counter>: unique across restarts and replicas, no SecureRandom per request
+    private static final String ID_PREFIX = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36) + "-";
+    private static final AtomicLong ID_COUNTER = new AtomicLong();
+
+    private final double successfulGetSampleRate;
+
+    public LoggingFilter(@Value("${employee.access-log.sample-rate.successful-get:1.0}") double successfulGetSampleRate) {
+        this.successfulGetSampleRate = successfulGetSampleRate;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        long startTime = System.currentTimeMillis();
-        String requestId = UUID.randomUUID().toString();
-        // Add request ID to response headers
+        long startNanos = System.nanoTime();
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
         response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        boolean failed = true;
         try {
-            // Log incoming request
-            logger.info("Incoming request: {} {} from {} (ID: {})",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    request.getRemoteAddr(),
-                    requestId);
-
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            // Log response time
-            long duration = System.currentTimeMillis() - startTime;
-            logger.info("Request completed: {} {} - Status: {} - Duration: {}ms (ID: {})",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration,
-                    requestId);
+            MDC.remove(REQUEST_ID_MDC_KEY);
+            if (request.isAsyncStarted()) {
+                // Streaming responses finish on another thread; log when they do
+                request.getAsyncContext().addListener(new AccessLogListener(request, response, requestId, startNanos));
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), requestId, startNanos);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, String requestId, long startNanos) {
+        if (!accessLog.isInfoEnabled() || !sampled(request.getMethod(), status)) {
+            return;
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        accessLog.atInfo()
+                .addKeyValue("requestId", requestId)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route != null ? route : "UNKNOWN")
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .addKeyValue("sqlStatements", request.getAttribute(RequestProfileFilter.STATEMENTS_ATTRIBUTE))
+                .addKeyValue("client", request.getRemoteAddr())
+                .log("request");
+    }
+
+    // Successful GETs are the bulk of traffic and the least interesting; everything else is always kept
+    private boolean sampled(String method, int status) {
+        if (successfulGetSampleRate >= 1.0 || status < 200 || status >= 300 || !"GET".equals(method)) {
+            return true;
+        }
+        return ThreadLocalRandom.current().nextDouble() < successfulGetSampleRate;
+    }
+
+    // Reuses the caller's id so one request can be followed across services; anything odd is replaced
+    private static String requestId(String incoming) {
+        if (incoming != null && !incoming.isEmpty() && incoming.length() <= MAX_REQUEST_ID_LENGTH) {
+            boolean safe = true;
+            for (int i = 0; i < incoming.length() && safe; i++) {
+                char c = incoming.charAt(i);
+                safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                        || c == '-' || c == '_' || c == '.' || c == ':';
+            }
+            if (safe) {
+                return incoming;
+            }
+        }
+        return ID_PREFIX + Long.toString(ID_COUNTER.incrementAndGet(), 36);
+    }
+
+    private final class AccessLogListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final String requestId;
+        private final long startNanos;
+
+        AccessLogListener(HttpServletRequest request, HttpServletResponse response, String requestId, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.requestId = requestId;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response.getStatus(), requestId, startNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
     }
 }
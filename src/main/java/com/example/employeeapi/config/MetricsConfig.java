@@ -0,0 +1,20 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.metrics.StatementCountingInspector;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class MetricsConfig {
+
+    // Per-request SQL statement counts (http.server.requests.statements, N+1 detection)
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        log.info("📊 Counting Hibernate SQL statements per request");
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.repository.ReactiveEmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * R2DBC pool for the reactive read API. The pool is kept inside {@link ReactiveEmployeeRepository} rather
+ * than exposed as a {@code ConnectionFactory} bean: Boot backs off the JDBC {@code DataSource} (and with it
+ * JPA) as soon as one exists, which is also why {@code R2dbcAutoConfiguration} is excluded.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.reactive.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ReactiveReadConfig {
+
+    private static final String POOL_NAME = "reactive";
+
+    @Value("${employee.reactive.url}")
+    private String url;
+
+    @Value("${employee.reactive.pool-size}")
+    private int poolSize;
+
+    @Value("${employee.reactive.max-acquire-time}")
+    private Duration maxAcquireTime;
+
+    @Value("${employee.reactive.fetch-size}")
+    private int fetchSize;
+
+    @Bean(destroyMethod = "close")
+    public ReactiveEmployeeRepository reactiveEmployeeRepository(DataSourceProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        // Same database as JPA unless told otherwise: jdbc:postgresql://... becomes r2dbc:postgresql://...
+        String r2dbcUrl = url.isBlank() ? properties.determineUrl().replaceFirst("^jdbc:", "r2dbc:") : url;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.determineUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.determinePassword())
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name(POOL_NAME)
+                .initialSize(0)
+                .maxSize(poolSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        pool.getMetrics().ifPresent(metrics -> registerPoolMetrics(metrics, meterRegistry));
+        log.info("⚡ Reactive reads on {} with up to {} connection(s)", r2dbcUrl, poolSize);
+        return new ReactiveEmployeeRepository(pool, fetchSize);
+    }
+
+    // Boot's r2dbc.pool.* meters only cover ConnectionFactory beans, so register the same ones by hand
+    private static void registerPoolMetrics(PoolMetrics metrics, MeterRegistry meterRegistry) {
+        gauge(meterRegistry, "r2dbc.pool.acquired", "Connections in use", metrics, PoolMetrics::acquiredSize);
+        gauge(meterRegistry, "r2dbc.pool.idle", "Idle connections", metrics, PoolMetrics::idleSize);
+        gauge(meterRegistry, "r2dbc.pool.pending", "Subscribers waiting for a connection", metrics, PoolMetrics::pendingAcquireSize);
+        gauge(meterRegistry, "r2dbc.pool.max.allocated", "Maximum connections", metrics, PoolMetrics::getMaxAllocatedSize);
+    }
+
+    private static void gauge(MeterRegistry meterRegistry, String name, String description,
+                              PoolMetrics metrics, ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(name, metrics, value)
+                .description(description)
+                .tag("name", POOL_NAME)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.employeeapi.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWKS held in memory and refreshed in the background, so token verification never waits on the
+ * identity provider. Every fetched key set is also written to {@code localFile}, which is what the
+ * service starts from when the provider cannot be reached. A token signed with an unknown key id triggers
+ * one early refresh (at most every {@link #ON_DEMAND_REFRESH_INTERVAL}) to pick up key rotation.
+ * <p>
+ * With {@link #initializeInBackground()} startup does not wait for the provider at all: the local copy is
+ * used straight away and only a token that no key matches waits for the first fetch to finish.
+ */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext> {
+
+    static final Duration ON_DEMAND_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+    private static final int READ_TIMEOUT_MS = 2000;
+    private static final int SIZE_LIMIT_BYTES = 512 * 1024;
+
+    private final URL jwkSetUrl;
+    private final Path localFile;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong lastRefreshAttemptNanos = new AtomicLong(System.nanoTime() - ON_DEMAND_REFRESH_INTERVAL.toNanos());
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private volatile JWKSet jwkSet = new JWKSet();
+    private volatile CompletableFuture<Boolean> initialFetch = CompletableFuture.completedFuture(false);
+
+    public RefreshingJwkSource(URL jwkSetUrl, Path localFile, MeterRegistry meterRegistry) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.localFile = localFile;
+        this.refreshSuccess = refreshCounter(meterRegistry, "success");
+        this.refreshFailure = refreshCounter(meterRegistry, "failure");
+    }
+
+    /** Fetches the key set, falling back to the local copy; startup continues even if both are missing. */
+    public void initialize() {
+        if (refresh()) {
+            return;
+        }
+        if (loadLocalCopy()) {
+            log.warn("🔑 JWKS endpoint unreachable, using {} keys from {}", jwkSet.getKeys().size(), localFile);
+            return;
+        }
+        log.warn("🔑 No JWKS available yet; tokens are rejected until a refresh succeeds");
+    }
+
+    /** Starts from the local copy, if any, and fetches a fresh key set on a background thread. */
+    public void initializeInBackground() {
+        if (loadLocalCopy()) {
+            log.info("🔑 Starting with {} JWKS keys from {}, fetching fresh ones in the background",
+                    jwkSet.getKeys().size(), localFile);
+        }
+        CompletableFuture<Boolean> fetch = new CompletableFuture<>();
+        initialFetch = fetch;
+        Thread.ofVirtual().name("jwks-initial-fetch").start(() -> {
+            boolean fetched = refresh();
+            if (!fetched && jwkSet.getKeys().isEmpty()) {
+                log.warn("🔑 No JWKS available yet; tokens are rejected until a refresh succeeds");
+            }
+            fetch.complete(fetched);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auth0.jwks-refresh-interval-ms}", initialDelayString = "${auth0.jwks-refresh-interval-ms}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /** @return whether a fresh key set was loaded; false if the fetch failed or another refresh is running */
+    public boolean refresh() {
+        if (!refreshLock.tryLock()) {
+            return false;
+        }
+        try {
+            lastRefreshAttemptNanos.set(System.nanoTime());
+            JWKSet fetched = JWKSet.load(jwkSetUrl, CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS, SIZE_LIMIT_BYTES);
+            jwkSet = fetched;
+            refreshSuccess.increment();
+            log.debug("JWKS refreshed from {}: {} keys", jwkSetUrl, fetched.getKeys().size());
+            saveLocalCopy(fetched);
+            return true;
+        } catch (IOException | ParseException ex) {
+            refreshFailure.increment();
+            log.warn("🔑 JWKS refresh from {} failed: {}", jwkSetUrl, ex.getMessage());
+            return false;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> keys = jwkSelector.select(jwkSet);
+        // Bounded by the fetch timeouts; an on-demand refresh could not start while it runs anyway
+        if (keys.isEmpty() && !initialFetch.isDone() && initialFetch.join()) {
+            return jwkSelector.select(jwkSet);
+        }
+        if (keys.isEmpty() && onDemandRefreshDue() && refresh()) {
+            keys = jwkSelector.select(jwkSet);
+        }
+        return keys;
+    }
+
+    private boolean onDemandRefreshDue() {
+        return System.nanoTime() - lastRefreshAttemptNanos.get() >= ON_DEMAND_REFRESH_INTERVAL.toNanos();
+    }
+
+    private boolean loadLocalCopy() {
+        if (localFile == null || !Files.isReadable(localFile)) {
+            return false;
+        }
+        try {
+            jwkSet = JWKSet.load(localFile.toFile());
+            return true;
+        } catch (IOException | ParseException ex) {
+            log.warn("🔑 Could not read local JWKS file {}: {}", localFile, ex.getMessage());
+            return false;
+        }
+    }
+
+    // Written to a temp file and moved so a crash never leaves a half-written key set behind
+    private void saveLocalCopy(JWKSet keys) {
+        if (localFile == null) {
+            return;
+        }
+        try {
+            Path parent = localFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "jwks", ".tmp");
+            Files.writeString(temp, keys.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, localFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("🔑 Could not write JWKS copy to {}: {}", localFile, ex.getMessage());
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("jwks.refresh")
+                .description("JWKS fetches from the identity provider")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.employeeapi.config;
+
+import com.example.employeeapi.routing.ReadYourWritesFilter;
+import com.example.employeeapi.routing.ReplicaRouter;
+import com.example.employeeapi.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus one pool per read replica, routed by
+ * {@link ReplicaRouter}. Only the routing proxy is exposed as a {@link DataSource} bean, so the
+ * bulkhead wraps it once and JPA, JdbcTemplate and SQL init see a single data source.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    @Value("${employee.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${employee.datasource.replicas.username}")
+    private String replicaUsername;
+
+    @Value("${employee.datasource.replicas.password}")
+    private String replicaPassword;
+
+    @Value("${employee.datasource.replicas.pool-size}")
+    private int replicaPoolSize;
+
+    @Value("${employee.datasource.replicas.max-lag-ms}")
+    private long maxLagMs;
+
+    @Value("${employee.datasource.replicas.lag-query}")
+    private String lagQuery;
+
+    @Value("${employee.datasource.replicas.sticky-window-ms}")
+    private long stickyWindowMs;
+
+    // Binds spring.datasource.hikari.* as the auto-configured pool would; not a DataSource itself
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryPoolConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(DataSourceProperties properties, HikariConfig primaryPoolConfig,
+                                       MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        primaryPoolConfig.setJdbcUrl(properties.determineUrl());
+        primaryPoolConfig.setUsername(properties.determineUsername());
+        primaryPoolConfig.setPassword(properties.determinePassword());
+        primaryPoolConfig.setDriverClassName(properties.determineDriverClassName());
+        primaryPoolConfig.setMetricsTrackerFactory(metrics);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig replica = new HikariConfig();
+            primaryPoolConfig.copyStateTo(replica);
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), replicaPoolSize));
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), new HikariDataSource(replica));
+        }
+        primaryPoolConfig.setPoolName(ReplicaRouter.PRIMARY);
+
+        ReplicaRouter router = new ReplicaRouter(new HikariDataSource(primaryPoolConfig), replicas,
+                lagQuery, Duration.ofMillis(maxLagMs), meterRegistry);
+        router.checkReplicas();
+        log.info("🗄️ Read-only transactions routed across {} replica(s), max lag {}ms", replicas.size(), maxLagMs);
+        return router;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaRouter);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+        // Set up front so the proxy does not open a connection just to discover the driver defaults
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazy.setTargetDataSource(routing);
+        lazy.afterPropertiesSet();
+        return lazy;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        // The legacy key is the whole frontend: pinned per X-Client-ID, not per principal
+        return new ReadYourWritesFilter(Duration.ofMillis(stickyWindowMs), Set.of(ApiKeyConfig.LEGACY_CLIENT));
+    }
+}
@@ -1,6 +1,13 @@
 package com.example.employeeapi.config;
 
 
+import com.example.employeeapi.apikey.ApiKeyRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +25,10 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,8 +43,20 @@ public class SecurityConfig {
     @Value("${auth0.audience}")
     private String audience;
 
-    @Value("${auth0.api-key}")
-    private String apiKey;
+    @Value("${auth0.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${auth0.jwks-file}")
+    private String jwksFile;
+
+    @Value("${auth0.jwks-fetch-at-startup}")
+    private boolean jwksFetchAtStartup;
+
+    @Value("${employee.jwt.cache.max-size}")
+    private long jwtCacheMaxSize;
+
+    @Value("${employee.jwt.cache.max-ttl-seconds}")
+    private long jwtCacheMaxTtlSeconds;
 
     @Value("${spring.profiles.active}")
     private String activeProfile;
@@ -50,7 +73,8 @@ public class SecurityConfig {
     };
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                                   ApiKeyRegistry apiKeyRegistry, ObjectMapper objectMapper) throws Exception {
         log.info("🔐 Initializing security config for profile: {}", activeProfile);
 
         http
@@ -72,17 +96,35 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 // JWT validation
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder())));
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder)));
 
-        // Add filters for API key and logging
-        http.addFilterBefore(new ApiKeyAuthFilter(apiKey), UsernamePasswordAuthenticationFilter.class);
-        http.addFilterBefore(new LoggingFilter(), UsernamePasswordAuthenticationFilter.class);
+        // API key filter (authentication and per-client quota); LoggingFilter is a servlet filter ahead of the whole security chain
+        http.addFilterBefore(new ApiKeyAuthFilter(apiKeyRegistry, objectMapper), UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
+    // Keys come from the JWKS endpoint directly (no OIDC discovery call) and are refreshed in the background;
+    // unless told otherwise the first fetch is too, so startup never waits on the identity provider
+    @Bean
+    public RefreshingJwkSource jwkSource(MeterRegistry meterRegistry) throws MalformedURLException {
+        RefreshingJwkSource jwkSource = new RefreshingJwkSource(
+                URI.create(jwkSetUri).toURL(), jwksFile.isBlank() ? null : Path.of(jwksFile), meterRegistry);
+        if (jwksFetchAtStartup) {
+            jwkSource.initialize();
+        } else {
+            jwkSource.initializeInBackground();
+        }
+        return jwkSource;
+    }
+
     @Bean
-    public JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder = JwtDecoders.fromOidcIssuerLocation(issuer);
+    public JwtDecoder jwtDecoder(RefreshingJwkSource jwkSource, MeterRegistry meterRegistry) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are checked by the Spring validators below, as NimbusJwtDecoder's own builders do
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
 
         // ✅ Validate both issuer and audience
         OAuth2TokenValidator<Jwt> audienceValidator = new AudienceValidator(audience);
@@ -91,8 +133,8 @@ public class SecurityConfig {
                 new DelegatingOAuth2TokenValidator<>(issuerValidator, audienceValidator);
 
         jwtDecoder.setJwtValidator(combinedValidator);
-        log.info("✅ JWT Decoder initialized for issuer: {}", issuer);
-        return jwtDecoder;
+        log.info("✅ JWT Decoder initialized for issuer: {} (keys from {})", issuer, jwkSetUri);
+        return new CachingJwtDecoder(jwtDecoder, jwtCacheMaxSize, Duration.ofSeconds(jwtCacheMaxTtlSeconds), meterRegistry);
     }
 
     @Bean
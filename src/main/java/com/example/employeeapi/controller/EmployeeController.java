@@ -1,46 +1,249 @@
 package com.example.employeeapi.controller;
 
+import com.example.employeeapi.cache.EmployeeJsonCache;
+import com.example.employeeapi.cache.JsonFragments;
+import com.example.employeeapi.cache.ResourceVersions;
+import com.example.employeeapi.changes.ChangeDispatcher;
+import com.example.employeeapi.export.EmployeeExporter;
+import com.example.employeeapi.export.ExportColumn;
+import com.example.employeeapi.export.ExportFormat;
+import com.example.employeeapi.importer.EmployeeImporter;
+import com.example.employeeapi.model.BulkItemResult;
+import com.example.employeeapi.model.BulkOperationResponse;
+import com.example.employeeapi.model.EmployeeBatchResponse;
+import com.example.employeeapi.model.EmployeeBulkUpdateItem;
+import com.example.employeeapi.model.EmployeePageResponse;
 import com.example.employeeapi.model.EmployeeRequest;
 import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeSearchResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.model.EmployeeSyncResponse;
+import com.example.employeeapi.model.ImportJobResponse;
+import com.example.employeeapi.model.SalaryAnalyticsResponse;
 import com.example.employeeapi.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
-import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = HttpHeaders.ETAG)
 @Tag(name = "Employee Management", description = "APIs for managing employee records and statistics")
 public class EmployeeController {
 
+    private static final String GZIP_TAG_SUFFIX = "-gzip";
+
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final ChangeDispatcher changeDispatcher;
+    private final EmployeeExporter employeeExporter;
+    private final EmployeeImporter employeeImporter;
+
+    @Value("${employee.http.cache-control.employee}")
+    private String employeeCacheControl;
+
+    @Value("${employee.http.cache-control.employees}")
+    private String employeesCacheControl;
+
+    @Value("${employee.http.cache-control.department}")
+    private String departmentCacheControl;
 
-    @Operation(summary = "Get all employees", description = "Fetches a list of all employees")
+    @Value("${employee.http.cache-control.stats}")
+    private String statsCacheControl;
+
+    @Value("${employee.export.gzip}")
+    private boolean exportGzip;
+
+    @Operation(summary = "Get all employees", description = "Fetches one page of employees ordered by ID; pass nextCursor back as 'after' to get the next page")
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        log.info("Fetching all employees");
-        List<EmployeeResponse> employees = employeeService.getAllEmployees();
-        log.debug("Retrieved {} employees", employees.size());
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<EmployeePageResponse> getAllEmployees(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest request) {
+        // Tag is read before the query, so a concurrent change can only make it older than the body
+        String etag = resourceVersions.allEmployeesTag();
+        if (notModified(request, etag)) {
+            return notModifiedResponse(etag, employeesCacheControl);
+        }
+        log.info("Fetching employees page after cursor {} (limit {})", after, limit);
+        EmployeePageResponse page = employeeService.getAllEmployees(after, limit);
+        log.debug("Retrieved {} employees", page.getItems().size());
+        return okResponse(etag, employeesCacheControl, page);
+    }
+
+    @Operation(summary = "Get changes since a sync token", description = "Delta sync: employees created or updated and ids deleted since 'changedSince', in change order. Start with changedSince= (empty) for a full sync, then pass nextToken back while hasMore is true. A token that has not been used for longer than the tombstone retention (30 days by default) is answered 410: start again with changedSince= (empty)")
+    @GetMapping(params = {"changedSince", "!ids"})
+    public ResponseEntity<EmployeeSyncResponse> getChangesSince(
+            @RequestParam String changedSince,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Fetching employee changes since token '{}' (limit {})", changedSince, limit);
+        EmployeeSyncResponse changes = employeeService.getChangesSince(changedSince, limit);
+        log.debug("Sync returned {} changed and {} deleted employees", changes.getChanged().size(), changes.getDeleted().size());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(changes);
+    }
+
+    @Operation(summary = "Get employees by IDs", description = "Fetches several employees in one call (?ids=1,2,3); ids without an employee are listed under 'missing'. Use POST /lookup for long id lists")
+    @GetMapping(params = {"ids", "!changedSince"})
+    public ResponseEntity<EmployeeBatchResponse> getEmployeesByIds(@RequestParam List<Long> ids) {
+        log.info("Fetching {} employees by ID", ids.size());
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
     }
 
-    @Operation(summary = "Get employee by ID", description = "Fetches an employee by their unique ID")
+    @Operation(summary = "Look up employees by IDs", description = "Same as GET ?ids= with the ids as a JSON array body, for sets too long for a URL")
+    @PostMapping("/lookup")
+    public ResponseEntity<EmployeeBatchResponse> lookupEmployees(@RequestBody List<Long> ids) {
+        log.info("Looking up {} employees by ID", ids.size());
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
+    }
+
+    @Operation(summary = "Stream all employees", description = "Streams every employee as NDJSON (default) or a JSON array, writing rows as they are fetched")
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        boolean jsonArray = "json".equalsIgnoreCase(format);
+        if (!jsonArray && !"ndjson".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        log.info("Streaming all employees as {}", jsonArray ? "JSON array" : "NDJSON");
+
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter sequence = jsonArray
+                    ? writer.writeValuesAsArray(outputStream)
+                    : writer.withRootValueSeparator("\n").writeValues(outputStream)) {
+                employeeService.streamAllEmployees(employee -> {
+                    try {
+                        sequence.write(employee);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Export employees", description = "Streams every employee (optionally only the given departments and columns) as CSV or NDJSON straight from a database cursor; gzip-compressed on the fly when the client accepts it")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String columns,
+            @RequestParam(name = "department", required = false) List<String> departments,
+            WebRequest request) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        List<ExportColumn> projection = ExportColumn.parse(columns);
+        List<String> departmentFilter = departments == null ? List.of() : departments;
+        boolean gzip = exportGzip && acceptsGzip(request);
+        log.info("Exporting employees as {} (columns {}, departments {}, gzip {})",
+                exportFormat, projection, departmentFilter.isEmpty() ? "all" : departmentFilter, gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(outputStream, 64 * 1024);
+                employeeExporter.export(exportFormat, projection, departmentFilter, compressed);
+                compressed.finish();
+            } else {
+                employeeExporter.export(exportFormat, projection, departmentFilter, outputStream);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("employees." + exportFormat.extension()).build().toString())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @Operation(summary = "Search employees", description = "Type-ahead search over name, position, department and email with prefix, partial and typo-tolerant matching, best matches first")
+    @GetMapping("/search")
+    public ResponseEntity<EmployeeSearchResponse> searchEmployees(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Searching employees for '{}' (limit {})", q, limit);
+        EmployeeSearchResponse result = employeeService.searchEmployees(q, limit);
+        log.debug("Search for '{}' returned {} employees", q, result.getItems().size());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Stream employee changes", description = "Server-Sent Events, one per committed create, update or delete (event name = change type, id = offset); reconnect with Last-Event-ID or 'after' to resume without gaps")
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) Long after) {
+        // Browsers resend the last seen id on reconnect; it takes precedence over the initial 'after'
+        Long offset = after;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                offset = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+        log.info("Opening change stream after offset {}", offset == null ? "now" : offset);
+        return changeDispatcher.subscribe(offset);
+    }
+
+    @Operation(summary = "Get employee by ID", description = "Fetches an employee by their unique ID",
+            responses = @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = EmployeeResponse.class))))
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getEmployeeById(@PathVariable Long id, WebRequest request) {
         log.info("Fetching employee with ID: {}", id);
         EmployeeResponse employee = employeeService.getEmployeeById(id);
+        // Each content coding is its own representation, so the gzip variant gets its own tag
+        boolean gzip = employeeJsonCache.isGzipEnabled() && acceptsGzip(request);
+        String etag = gzip ? versionTag(employee.getVersion(), GZIP_TAG_SUFFIX) : versionTag(employee.getVersion());
+        if (notModified(request, etag)) {
+            return varyByEncoding(withCacheControl(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag), employeeCacheControl)).build();
+        }
         log.debug("Employee details: {}", employee);
-        return ResponseEntity.ok(employee);
+        ResponseEntity.BodyBuilder response = varyByEncoding(withCacheControl(ResponseEntity.ok().eTag(etag), employeeCacheControl))
+                .contentType(MediaType.APPLICATION_JSON);
+        return gzip
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(employeeJsonCache.gzip(employee))
+                : response.body(employeeJsonCache.json(employee));
     }
 
     @Operation(summary = "Create new employee", description = "Adds a new employee to the system")
@@ -52,15 +255,18 @@ public class EmployeeController {
         return ResponseEntity.ok(createdEmployee);
     }
 
-    @Operation(summary = "Update employee", description = "Updates an existing employee's details")
+    @Operation(summary = "Update employee", description = "Updates an existing employee's details; with If-Match only while the employee still has that ETag (412 otherwise)")
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponse> updateEmployee(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EmployeeRequest employeeRequest) {
         log.info("Updating employee with ID: {}", id);
-        EmployeeResponse updatedEmployee = employeeService.updateEmployee(id, employeeRequest);
+        EmployeeResponse updatedEmployee = employeeService.updateEmployee(id, employeeRequest, expectedVersion(ifMatch));
         log.info("Employee with ID {} updated successfully", id);
-        return ResponseEntity.ok(updatedEmployee);
+        return ResponseEntity.ok()
+                .eTag(versionTag(updatedEmployee.getVersion()))
+                .body(updatedEmployee);
     }
 
     @Operation(summary = "Delete employee", description = "Deletes an employee by their ID")
@@ -72,28 +278,193 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get employees by department", description = "Fetches all employees belonging to a specific department")
+    @Operation(summary = "Bulk create employees", description = "Validates and inserts a batch of employees, returning a result per item. Invalid items, duplicates within the batch and emails already taken fail on their own; an email taken by a concurrent request in the meantime rolls back the whole batch with 409")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> bulkCreateEmployees(@RequestBody List<EmployeeRequest> employeeRequests) {
+        log.info("Bulk creating {} employees", employeeRequests.size());
+        BulkOperationResponse result = employeeService.bulkCreateEmployees(employeeRequests);
+        log.info("Bulk create finished: {} succeeded, {} failed", result.getSucceeded(), result.getFailed());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Import employees", description = "Takes a CSV or NDJSON upload (the export formats, optionally with Content-Encoding: gzip) as the request body and imports it in the background: rows are validated in parallel and inserted in batches. Returns 202 with the job to poll (on the node that accepted it), or 413 when the upload exceeds the size limit")
+    @PostMapping(value = "/import", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<ImportJobResponse> importEmployees(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        ImportJobResponse job = employeeImporter.submit(ExportFormat.parse(format), body, "gzip".equalsIgnoreCase(contentEncoding));
+        log.info("Import job {} accepted", job.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/import/" + job.getId()))
+                .body(job);
+    }
+
+    @Operation(summary = "Get import job", description = "Progress of an import job: rows read, inserted and failed so far")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(employeeImporter.status(jobId));
+    }
+
+    @Operation(summary = "Get import errors", description = "Rows of an import job that were not inserted, with the reason; 'index' is the 1-based record number in the upload")
+    @GetMapping("/import/{jobId}/errors")
+    public ResponseEntity<List<BulkItemResult>> getImportErrors(@PathVariable String jobId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(employeeImporter.errors(jobId));
+    }
+
+    @Operation(summary = "Bulk update employees", description = "Updates a batch of employees by ID, returning a result per item. Invalid items, missing ids and emails owned by other employees fail on their own; an employee modified or an email taken by a concurrent request in the meantime rolls back the whole batch with 409")
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> bulkUpdateEmployees(@RequestBody List<EmployeeBulkUpdateItem> items) {
+        log.info("Bulk updating {} employees", items.size());
+        BulkOperationResponse result = employeeService.bulkUpdateEmployees(items);
+        log.info("Bulk update finished: {} succeeded, {} failed", result.getSucceeded(), result.getFailed());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Bulk delete employees", description = "Deletes a batch of employees by ID, returning a result per item")
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> bulkDeleteEmployees(@RequestBody List<Long> ids) {
+        log.warn("Bulk deleting {} employees", ids.size());
+        BulkOperationResponse result = employeeService.bulkDeleteEmployees(ids);
+        log.info("Bulk delete finished: {} succeeded, {} failed", result.getSucceeded(), result.getFailed());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Get employees by department", description = "Fetches one page of employees in a department ordered by ID; pass nextCursor back as 'after' to get the next page",
+            responses = @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = EmployeePageResponse.class))))
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByDepartment(@PathVariable String department) {
+    public ResponseEntity<JsonFragments> getEmployeesByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest request) {
+        String etag = resourceVersions.departmentTag(department);
+        if (notModified(request, etag)) {
+            return notModifiedResponse(etag, departmentCacheControl);
+        }
         log.info("Fetching employees in department: {}", department);
-        List<EmployeeResponse> employees = employeeService.getEmployeesByDepartment(department);
-        log.debug("Found {} employees in department {}", employees.size(), department);
-        return ResponseEntity.ok(employees);
+        EmployeePageResponse page = employeeService.getEmployeesByDepartment(department, after, limit);
+        log.debug("Found {} employees in department {}", page.getItems().size(), department);
+        // Items come from the pre-serialized cache and are written one after another
+        return withCacheControl(ResponseEntity.ok().eTag(etag), departmentCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(employeeJsonCache.page(page));
     }
 
     @Operation(summary = "Get employee statistics", description = "Provides summary statistics like total employees, average and highest salary")
     @GetMapping("/stats/summary")
-    public ResponseEntity<Map<String, Object>> getEmployeeStats() {
+    public ResponseEntity<EmployeeStatsResponse> getEmployeeStats(WebRequest request) {
         log.info("Fetching employee statistics summary");
-        Map<String, Object> stats = Map.of(
-                "totalEmployees", employeeService.getTotalEmployees(),
-                "averageSalary", employeeService.getAverageSalary() != null ?
-                        employeeService.getAverageSalary() : 0.0,
-                "highestSalary", employeeService.getHighestSalary() != null ?
-                        employeeService.getHighestSalary() : BigDecimal.ZERO,
-                "departmentCount", employeeService.getDepartmentCount()
-        );
+        // The summary lives in memory, so the tag is taken from its content: exact, and free to compute
+        EmployeeStatsResponse stats = employeeService.getStatsSummary();
+        if (stats == null) {
+            // The engine waits for its first build, so this only happens if that build produced nothing
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        String etag = "\"s" + stats.getTotalEmployees()
+                + "." + Long.toHexString(Double.doubleToLongBits(stats.getAverageSalary()))
+                + "." + (stats.getHighestSalary() == null ? "-" : stats.getHighestSalary().toPlainString())
+                + "." + stats.getDepartmentCount() + "\"";
+        if (notModified(request, etag)) {
+            return notModifiedResponse(etag, statsCacheControl);
+        }
         log.debug("Employee stats: {}", stats);
-        return ResponseEntity.ok(stats);
+        return okResponse(etag, statsCacheControl, stats);
+    }
+
+    @Operation(summary = "Get salary analytics", description = "Salary count, min, average, max, median, p90 and p99 with a histogram, company-wide or for one department, plus a breakdown per department")
+    @GetMapping("/stats/salaries")
+    public ResponseEntity<SalaryAnalyticsResponse> getSalaryAnalytics(
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "20") int buckets) {
+        log.info("Fetching salary analytics for {}", department == null ? "all departments" : "department " + department);
+        SalaryAnalyticsResponse analytics = employeeService.getSalaryAnalytics(department, buckets);
+        log.debug("Salary analytics summary: {}", analytics.getSummary());
+        return ResponseEntity.ok(analytics);
+    }
+
+    private static String versionTag(Long version) {
+        return versionTag(version, "");
+    }
+
+    private static String versionTag(Long version, String suffix) {
+        return "\"" + (version == null ? 0 : version) + suffix + "\"";
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity.BodyBuilder varyByEncoding(ResponseEntity.BodyBuilder builder) {
+        return employeeJsonCache.isGzipEnabled() ? builder.varyBy(HttpHeaders.ACCEPT_ENCODING) : builder;
+    }
+
+    // If-Match carries an ETag from a previous read ("<version>"); '*' only requires the employee to exist
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.endsWith(GZIP_TAG_SUFFIX + "\"")) {
+            tag = tag.substring(0, tag.length() - GZIP_TAG_SUFFIX.length() - 1) + "\"";
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw new IllegalArgumentException("If-Match must be a single ETag returned by this API");
+    }
+
+    // Weak comparison as required for If-None-Match; handles '*' and comma-separated lists
+    private static boolean notModified(WebRequest request, String etag) {
+        String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        for (String header : headers) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModifiedResponse(String etag, String cacheControl) {
+        return withCacheControl(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag), cacheControl).build();
+    }
+
+    private static <T> ResponseEntity<T> okResponse(String etag, String cacheControl, T body) {
+        return withCacheControl(ResponseEntity.ok().eTag(etag), cacheControl).body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder withCacheControl(ResponseEntity.BodyBuilder builder, String cacheControl) {
+        return cacheControl.isBlank() ? builder : builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
     }
 }
@@ -0,0 +1,108 @@
+package com.example.employeeapi.controller;
+
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.exception.NotFoundException;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.repository.ReactiveEmployeeRepository;
+import com.example.employeeapi.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variants of the main read endpoints. Spring MVC subscribes to the returned publishers
+ * and releases the request thread while the query runs; lists are streamed as NDJSON one employee at a
+ * time, requested from the database only as fast as the client reads them. Lives under
+ * /api/employees so the same authentication and API key quotas apply.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/reactive")
+@ConditionalOnProperty(name = "employee.reactive.enabled", havingValue = "true", matchIfMissing = true)
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Employee Management (reactive)", description = "Streaming, non-blocking reads over R2DBC")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeRepository repository;
+    private final EmployeeService employeeService;
+    private final Cache employeeCache;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final int maxLimit;
+
+    public ReactiveEmployeeController(ReactiveEmployeeRepository repository,
+                                      EmployeeService employeeService,
+                                      CacheManager cacheManager,
+                                      EmployeeCacheInvalidator cacheInvalidator,
+                                      @Value("${employee.reactive.max-limit}") int maxLimit) {
+        this.repository = repository;
+        this.employeeService = employeeService;
+        this.employeeCache = cacheManager.getCache(EmployeeCacheInvalidator.EMPLOYEES_CACHE);
+        this.cacheInvalidator = cacheInvalidator;
+        this.maxLimit = maxLimit;
+    }
+
+    @Operation(summary = "Stream employees", description = "Employees ordered by ID as NDJSON; pass the last ID received as 'after' to continue")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponse> getAllEmployees(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("Streaming employees after ID {} (limit {})", after, limit);
+        return repository.findPage(after, pageSize(limit));
+    }
+
+    @Operation(summary = "Stream employees by department", description = "Employees in a department ordered by ID as NDJSON; pass the last ID received as 'after' to continue")
+    @GetMapping(value = "/department/{department}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponse> getEmployeesByDepartment(
+            @PathVariable String department,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("Streaming employees in department {} after ID {} (limit {})", department, after, limit);
+        return repository.findDepartmentPage(department, after, pageSize(limit));
+    }
+
+    @Operation(summary = "Get employee by ID", description = "Fetches an employee by their unique ID")
+    @GetMapping("/{id}")
+    public Mono<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
+        log.info("Fetching employee with ID: {}", id);
+        // Shares the employee cache with GET /api/employees/{id}; the database is only asked on a miss
+        EmployeeResponse cached = employeeCache == null ? null : employeeCache.get(id, EmployeeResponse.class);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // Read before the query runs, so an update committing meanwhile cannot be overwritten by this fill
+        long evictionsBeforeLoad = cacheInvalidator.employeeEvictions();
+        return repository.findById(id)
+                .doOnNext(employee -> {
+                    if (employeeCache != null) {
+                        cacheInvalidator.putIfNotEvicted(employeeCache, id, employee, evictionsBeforeLoad);
+                    }
+                })
+                .switchIfEmpty(Mono.error(() -> NotFoundException.employee(id)));
+    }
+
+    @Operation(summary = "Get employee statistics", description = "Provides summary statistics like total employees, average and highest salary")
+    @GetMapping("/stats/summary")
+    public Mono<EmployeeStatsResponse> getEmployeeStats() {
+        log.info("Fetching employee statistics summary");
+        // Kept in memory by the stats engine, so there is nothing to wait for
+        return Mono.fromSupplier(employeeService::getStatsSummary);
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, maxLimit));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.employeeapi.event;
+
+import com.example.employeeapi.model.EmployeeResponse;
+
+/**
+ * Published by the service after every employee mutation. {@code previous} is null for creates,
+ * {@code current} is null for deletes; both are detached snapshots, safe to keep.
+ */
+public record EmployeeChangedEvent(ChangeType type, Long id, EmployeeResponse previous, EmployeeResponse current) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static EmployeeChangedEvent created(EmployeeResponse current) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, current.getId(), null, current);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponse previous, EmployeeResponse current) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, current.getId(), previous, current);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeResponse previous) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, previous.getId(), previous, null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.employeeapi.event;
+
+import com.example.employeeapi.routing.ReplicaRouter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link SnapshotReader} over a REPEATABLE READ transaction on the primary, so the rebuild query and
+ * the later row version lookups all read the same snapshot.
+ */
+@Component
+public class JdbcSnapshotReader implements SnapshotReader {
+
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private final TransactionTemplate snapshotTransaction;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcSnapshotReader(PlatformTransactionManager transactionManager, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        // Never join a caller's transaction: its snapshot may be older and its isolation weaker
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public <R> R inSnapshot(Supplier<R> work) {
+        // Pinned to the primary: a lagging replica could miss changes the previous view already applied
+        return ReplicaRouter.onPrimary(() -> snapshotTransaction.execute(status -> work.get()));
+    }
+
+    @Override
+    public Map<Long, RowState> rowStates(Collection<Long> ids) {
+        Map<Long, RowState> states = new HashMap<>();
+        ids.forEach(id -> states.put(id, RowState.ABSENT));
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK) {
+            Map<String, Object> params = Map.of("ids", all.subList(from, Math.min(from + LOOKUP_CHUNK, all.size())));
+            jdbcTemplate.query("SELECT DISTINCT employee_id FROM employee_tombstones WHERE employee_id IN (:ids)", params,
+                    rs -> {
+                        states.put(rs.getLong(1), RowState.DELETED);
+                    });
+            jdbcTemplate.query("SELECT id, version FROM employees WHERE id IN (:ids)", params,
+                    rs -> {
+                        states.put(rs.getLong(1), RowState.present(rs.getObject(2, Long.class)));
+                    });
+        }
+        return states;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.employeeapi.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lifecycle shared by the in-memory views kept current from {@link EmployeeChangedEvent}s (stats,
+ * salary analytics, search index): built from the database, updated by events, rebuilt now and then
+ * to correct drift.
+ * <p>
+ * Events that arrive while a rebuild is loading are queued and replayed on the fresh view. The loader
+ * and the row version lookups share one snapshot, so each queued event is replayed only if that
+ * snapshot does not include it yet, by matching its previous version against the row the snapshot saw.
+ * A caller that asks for a rebuild while one is in flight waits for it instead of returning early.
+ */
+@Slf4j
+public final class RebuildableView<T> {
+
+    private final String name;
+    private final SnapshotReader snapshotReader;
+    private final Supplier<T> loader;
+    private final BiConsumer<T, EmployeeChangedEvent> applier;
+    private final Consumer<T> publisher;
+
+    private final Object lock = new Object();
+    private T view;
+    // Events seen while a rebuild is loading; null when no rebuild is in flight
+    private List<EmployeeChangedEvent> pendingDuringRebuild;
+    private CompletableFuture<Void> inFlight;
+
+    /**
+     * @param loader    builds a fresh view; runs inside the snapshot
+     * @param applier   applies one event to a view; called with the lock held
+     * @param publisher called with the lock held after the view changed, to refresh whatever readers see
+     */
+    public RebuildableView(String name, SnapshotReader snapshotReader, Supplier<T> loader,
+                           BiConsumer<T, EmployeeChangedEvent> applier, Consumer<T> publisher) {
+        this.name = name;
+        this.snapshotReader = snapshotReader;
+        this.loader = loader;
+        this.applier = applier;
+        this.publisher = publisher;
+    }
+
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (lock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            if (view != null) {
+                applier.accept(view, event);
+                publisher.accept(view);
+            }
+        }
+    }
+
+    /** Rebuilds the view, or waits for the rebuild already in flight. Failures reach every waiter. */
+    public void rebuild() {
+        CompletableFuture<Void> running;
+        CompletableFuture<Void> mine = null;
+        synchronized (lock) {
+            if (inFlight == null) {
+                inFlight = mine = new CompletableFuture<>();
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            running = inFlight;
+        }
+        if (mine == null) {
+            await(running);
+            return;
+        }
+
+        try {
+            snapshotReader.inSnapshot(() -> {
+                T loaded = loader.get();
+                catchUp(loaded);
+                return loaded;
+            });
+            mine.complete(null);
+        } catch (RuntimeException | Error ex) {
+            synchronized (lock) {
+                if (inFlight == mine) {
+                    pendingDuringRebuild = null;
+                    inFlight = null;
+                }
+            }
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /** Builds the view if it does not exist yet, then runs {@code reader} on it with the lock held. */
+    public <R> R read(Function<T, R> reader) {
+        synchronized (lock) {
+            if (view != null) {
+                return reader.apply(view);
+            }
+        }
+        rebuild();
+        synchronized (lock) {
+            return reader.apply(view);
+        }
+    }
+
+    // Inside the snapshot: looks up the rows of queued events until none is left unresolved, then installs the view
+    private void catchUp(T fresh) {
+        Map<Long, SnapshotReader.RowState> seen = new HashMap<>();
+        while (true) {
+            List<Long> unresolved;
+            synchronized (lock) {
+                unresolved = pendingDuringRebuild.stream()
+                        .map(EmployeeChangedEvent::id)
+                        .filter(id -> !seen.containsKey(id))
+                        .distinct()
+                        .toList();
+                if (unresolved.isEmpty()) {
+                    int replayed = replay(fresh, pendingDuringRebuild, seen);
+                    log.debug("{}: replayed {} of {} events seen during rebuild", name, replayed, pendingDuringRebuild.size());
+                    pendingDuringRebuild = null;
+                    inFlight = null;
+                    view = fresh;
+                    publisher.accept(fresh);
+                    return;
+                }
+            }
+            seen.putAll(snapshotReader.rowStates(unresolved));
+        }
+    }
+
+    // Applies the events the snapshot does not include yet. Listeners may see two changes to one row out
+    // of order, so passes repeat until nothing more applies; whatever is left the snapshot already had.
+    private int replay(T fresh, List<EmployeeChangedEvent> events, Map<Long, SnapshotReader.RowState> seen) {
+        Map<Long, SnapshotReader.RowState> rows = new HashMap<>(seen);
+        List<EmployeeChangedEvent> remaining = new ArrayList<>(events);
+        int replayed = 0;
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (Iterator<EmployeeChangedEvent> it = remaining.iterator(); it.hasNext(); ) {
+                EmployeeChangedEvent event = it.next();
+                if (rows.get(event.id()).precedes(event)) {
+                    applier.accept(fresh, event);
+                    rows.put(event.id(), SnapshotReader.RowState.after(event));
+                    it.remove();
+                    replayed++;
+                    progress = true;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    private static void await(CompletableFuture<Void> rebuild) {
+        try {
+            rebuild.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
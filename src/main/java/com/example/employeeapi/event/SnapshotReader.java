@@ -0,0 +1,47 @@
+package com.example.employeeapi.event;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Database side of {@link RebuildableView}: runs a rebuild inside one consistent snapshot and tells,
+ * for employees that changed while it ran, which version of each row that snapshot saw.
+ */
+public interface SnapshotReader {
+
+    /** Runs {@code work} in a single read-only snapshot; every query it makes sees the same data. */
+    <R> R inSnapshot(Supplier<R> work);
+
+    /** What the current snapshot holds for each of {@code ids}. Only valid inside {@link #inSnapshot}. */
+    Map<Long, RowState> rowStates(Collection<Long> ids);
+
+    /** One employee row as a snapshot saw it. Ids are never reused, so a deleted row stays deleted. */
+    record RowState(Kind kind, long version) {
+
+        public enum Kind {
+            ABSENT, PRESENT, DELETED
+        }
+
+        public static final RowState ABSENT = new RowState(Kind.ABSENT, 0);
+        public static final RowState DELETED = new RowState(Kind.DELETED, 0);
+
+        public static RowState present(Long version) {
+            return new RowState(Kind.PRESENT, version == null ? 0 : version);
+        }
+
+        /** The state the row is in once {@code event} has happened. */
+        static RowState after(EmployeeChangedEvent event) {
+            return event.current() == null ? DELETED : present(event.current().getVersion());
+        }
+
+        /** Whether {@code event} is the next change to this row, i.e. the snapshot does not include it yet. */
+        boolean precedes(EmployeeChangedEvent event) {
+            if (event.previous() == null) {
+                return kind == Kind.ABSENT;
+            }
+            Long previousVersion = event.previous().getVersion();
+            return kind == Kind.PRESENT && version == (previousVersion == null ? 0 : previousVersion);
+        }
+    }
+}
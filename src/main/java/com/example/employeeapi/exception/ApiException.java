@@ -0,0 +1,19 @@
+package com.example.employeeapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base of the errors the API returns on purpose: a missing employee, a stale version, an overloaded
+ * database. They are expected and can arrive thousands a second (an id-enumeration crawler, a load spike),
+ * so they carry no stack trace and no suppressed exceptions; the message and type say all there is to say.
+ * Being immutable, instances with a fixed message can be created once and thrown repeatedly.
+ */
+public abstract class ApiException extends RuntimeException {
+
+    protected ApiException(String message) {
+        super(message, null, false, false);
+    }
+
+    /** The response status the exception handler answers with. */
+    public abstract HttpStatus getStatus();
+}
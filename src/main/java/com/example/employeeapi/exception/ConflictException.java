@@ -0,0 +1,60 @@
+package com.example.employeeapi.exception;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+
+public class ConflictException extends ApiException {
+
+    static final String DUPLICATE_EMAIL = "Employee with this email already exists";
+
+    // PostgreSQL's name for the UNIQUE on employees.email (V1__employee_schema.sql)
+    static final String EMAIL_CONSTRAINT = "employees_email_key";
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * The unique constraint on email is the real duplicate check; turns its violation into a 409 and returns
+     * any other violation as it is.
+     */
+    public static RuntimeException fromIntegrityViolation(DataIntegrityViolationException ex) {
+        return fromIntegrityViolation(ex, DUPLICATE_EMAIL);
+    }
+
+    public static RuntimeException fromIntegrityViolation(DataIntegrityViolationException ex, String duplicateEmailMessage) {
+        return isDuplicateEmail(ex) ? new ConflictException(duplicateEmailMessage) : ex;
+    }
+
+    static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        return EMAIL_CONSTRAINT.equals(violatedConstraint(ex));
+    }
+
+    // Read from the server's error fields rather than the message text, which changes with wording and locale
+    static String violatedConstraint(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = next(cause)) {
+            if (cause instanceof PSQLException psql) {
+                ServerErrorMessage serverError = psql.getServerErrorMessage();
+                return serverError == null ? null : serverError.getConstraint();
+            }
+        }
+        return null;
+    }
+
+    // JDBC batches report the failing statement as the next exception rather than the cause
+    private static Throwable next(Throwable ex) {
+        if (ex instanceof SQLException sql && sql.getNextException() != null) {
+            return sql.getNextException();
+        }
+        return ex.getCause();
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
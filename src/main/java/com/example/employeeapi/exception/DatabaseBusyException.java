@@ -0,0 +1,20 @@
+package com.example.employeeapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class DatabaseBusyException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public DatabaseBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
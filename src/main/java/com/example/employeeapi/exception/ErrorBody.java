@@ -0,0 +1,16 @@
+package com.example.employeeapi.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Body of the error responses written by {@link GlobalExceptionHandler}; same fields and order as the map
+ * it replaces, without building a map per error.
+ */
+public record ErrorBody(LocalDateTime timestamp,
+                       int status,
+                       String error,
+                       String message,
+                       @JsonInclude(JsonInclude.Include.NON_NULL) Object details) {
+}
@@ -0,0 +1,99 @@
+package com.example.employeeapi.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Error logging for {@link GlobalExceptionHandler} that stays cheap when one error repeats thousands of
+ * times a second. Every error is counted in {@code api.errors} by exception type and status; the log gets
+ * at most one line per type and status each {@code interval}, saying how many similar ones were left out
+ * since the previous line.
+ */
+@Slf4j
+@Component
+public class ErrorLogLimiter {
+
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ErrorLogLimiter(MeterRegistry meterRegistry,
+                           @Value("${employee.errors.log-interval}") Duration interval) {
+        this(meterRegistry, interval, System::nanoTime);
+    }
+
+    ErrorLogLimiter(MeterRegistry meterRegistry, Duration interval, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = interval.toNanos();
+        this.clock = clock;
+    }
+
+    /** Expected errors: logged at WARN with the message only. Returns whether a line was written. */
+    public boolean warn(HttpStatusCode status, Throwable ex, String what) {
+        long suppressed = admit(status, ex);
+        if (suppressed < 0) {
+            return false;
+        }
+        if (suppressed == 0) {
+            log.warn("{}: {}", what, ex.getMessage());
+        } else {
+            log.warn("{}: {} ({} similar not logged)", what, ex.getMessage(), suppressed);
+        }
+        return true;
+    }
+
+    /** Unexpected errors: logged at ERROR with the stack trace. Returns whether a line was written. */
+    public boolean error(HttpStatusCode status, Throwable ex, String what) {
+        long suppressed = admit(status, ex);
+        if (suppressed < 0) {
+            return false;
+        }
+        if (suppressed == 0) {
+            log.error("{}:", what, ex);
+        } else {
+            log.error("{} ({} similar not logged):", what, suppressed, ex);
+        }
+        return true;
+    }
+
+    // Counts the error; returns how many were suppressed since the last line, or -1 if this one is suppressed too
+    private long admit(HttpStatusCode status, Throwable ex) {
+        Window window = windows.computeIfAbsent(new Key(ex.getClass(), status.value()), this::newWindow);
+        window.count.increment();
+        long now = clock.getAsLong();
+        long next = window.nextLogNanos.get();
+        if (now - next < 0 || !window.nextLogNanos.compareAndSet(next, now + intervalNanos)) {
+            window.suppressed.incrementAndGet();
+            return -1;
+        }
+        return window.suppressed.getAndSet(0);
+    }
+
+    private Window newWindow(Key key) {
+        Counter count = Counter.builder("api.errors")
+                .description("Error responses by exception type and status")
+                .tag("type", key.type().getSimpleName())
+                .tag("status", Integer.toString(key.status()))
+                .register(meterRegistry);
+        return new Window(count, new AtomicLong(clock.getAsLong()), new AtomicLong());
+    }
+
+    private record Key(Class<?> type, int status) {
+    }
+
+    private record Window(Counter count, AtomicLong nextLogNanos, AtomicLong suppressed) {
+    }
+}
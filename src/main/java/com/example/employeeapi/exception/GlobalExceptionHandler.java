@@ -1,10 +1,13 @@
 package com.example.employeeapi.exception;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,28 +16,92 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
-@Slf4j
+/**
+ * Maps exceptions to error responses. Logging goes through {@link ErrorLogLimiter}, so a flood of one error
+ * costs a counter increment per request rather than a log line (and stack trace) each. What is still
+ * allocated per error is the exception itself (stackless, see {@link ApiException}; a 404 names the id, so
+ * it is not cached) and one {@link ErrorBody}, which carries the response timestamp and cannot be shared.
+ */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
-    @ExceptionHandler(InvalidApiKeyException.class)
-    public ResponseEntity<Object> handleInvalidApiKey(InvalidApiKeyException ex) {
-        log.warn("API Key error: {}", ex.getMessage());
-        return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
+    private final ErrorLogLimiter errorLog;
+
+    // Not found, conflict, invalid API key: the status comes with the exception
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<Object> handleApiException(ApiException ex) {
+        errorLog.warn(ex.getStatus(), ex, "Request rejected");
+        return buildResponse(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        errorLog.warn(HttpStatus.CONFLICT, ex.getMostSpecificCause(), "Data integrity violation");
+        String message = ConflictException.isDuplicateEmail(ex)
+                ? ConflictException.DUPLICATE_EMAIL
+                : "Request conflicts with existing data";
+        return buildResponse(HttpStatus.CONFLICT, message);
+    }
+
+    // Stale If-Match on an update; the current ETag lets the client re-read and retry
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<Object> handleVersionMismatch(VersionMismatchException ex) {
+        errorLog.warn(ex.getStatus(), ex, "Precondition failed");
+        ResponseEntity<Object> response = buildResponse(ex.getStatus(), ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .eTag("\"" + ex.getCurrentVersion() + "\"")
+                .body(response.getBody());
+    }
+
+    // A concurrent JPA write won the race (bulk updates are version-checked by Hibernate)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        errorLog.warn(HttpStatus.CONFLICT, ex, "Optimistic locking failure");
+        return buildResponse(HttpStatus.CONFLICT, "Employee was modified concurrently, please retry");
     }
 
+    // Transactional access wraps a bulkhead rejection in CannotCreateTransactionException
+    @ExceptionHandler({DatabaseBusyException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<Object> handleDatabaseUnavailable(RuntimeException ex) {
+        DatabaseBusyException busy = findCause(ex, DatabaseBusyException.class);
+        if (busy == null) {
+            errorLog.error(HttpStatus.SERVICE_UNAVAILABLE, ex, "Could not obtain a database connection");
+            return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Database is unavailable");
+        }
+        errorLog.warn(busy.getStatus(), busy, "Database bulkhead rejected request");
+        ResponseEntity<Object> response = buildResponse(busy.getStatus(), busy.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(SubscriberLimitException.class)
+    public ResponseEntity<Object> handleSubscriberLimit(SubscriberLimitException ex) {
+        errorLog.warn(ex.getStatus(), ex, "Change stream subscription rejected");
+        ResponseEntity<Object> response = buildResponse(ex.getStatus(), ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    // Bad parameters are expected; anything else landing here is a bug worth a stack trace, and its
+    // message is ours, not the client's, so it stays in the log
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Object> handleRuntimeException(RuntimeException ex) {
-        log.error("Runtime exception:", ex);
-        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        if (ex instanceof IllegalArgumentException) {
+            errorLog.warn(HttpStatus.BAD_REQUEST, ex, "Invalid request");
+            return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+        errorLog.error(HttpStatus.INTERNAL_SERVER_ERROR, ex, "Runtime exception");
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGenericException(Exception ex) {
-        log.error("Unexpected error:", ex);
+        errorLog.error(HttpStatus.INTERNAL_SERVER_ERROR, ex, "Unexpected error");
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
     }
 
@@ -58,21 +125,30 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                                                              HttpHeaders headers,
                                                              HttpStatusCode status,
                                                              WebRequest request) {
-        log.error("Internal Spring MVC exception:", ex);
+        // Unsupported method, unknown path, unreadable body...: client errors unless the status says otherwise
+        if (status.is5xxServerError()) {
+            errorLog.error(status, ex, "Internal Spring MVC exception");
+        } else {
+            errorLog.warn(status, ex, "Spring MVC exception");
+        }
         return buildResponse(HttpStatus.valueOf(status.value()), ex.getMessage());
     }
 
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+
     private ResponseEntity<Object> buildResponse(HttpStatus status, String message) {
         return buildResponse(status, message, null);
     }
 
     private ResponseEntity<Object> buildResponse(HttpStatus status, String message, Object details) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
-        if (details != null) body.put("details", details);
+        ErrorBody body = new ErrorBody(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message, details);
         return ResponseEntity.status(status).body(body);
     }
 }
@@ -1,7 +1,14 @@
 package com.example.employeeapi.exception;
 
-public class InvalidApiKeyException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class InvalidApiKeyException extends ApiException {
     public InvalidApiKeyException(String message) {
         super(message);
     }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.UNAUTHORIZED;
+    }
 }
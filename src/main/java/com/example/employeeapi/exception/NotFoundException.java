@@ -0,0 +1,19 @@
+package com.example.employeeapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class NotFoundException extends ApiException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+
+    public static NotFoundException employee(Long id) {
+        return new NotFoundException("Employee not found with id: " + id);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.NOT_FOUND;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employeeapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PayloadTooLargeException extends ApiException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.PAYLOAD_TOO_LARGE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employeeapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ResyncRequiredException extends ApiException {
+
+    public ResyncRequiredException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.GONE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.employeeapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class SubscriberLimitException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public SubscriberLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.employeeapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class VersionMismatchException extends ApiException {
+
+    private final long currentVersion;
+
+    public VersionMismatchException(String message, long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.PRECONDITION_FAILED;
+    }
+}
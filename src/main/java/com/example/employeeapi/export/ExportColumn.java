@@ -0,0 +1,75 @@
+package com.example.employeeapi.export;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Columns an export can project, named as in {@link com.example.employeeapi.model.EmployeeResponse}.
+ */
+public enum ExportColumn {
+    ID("id", "id", Kind.NUMBER),
+    NAME("name", "name", Kind.TEXT),
+    POSITION("position", "position", Kind.TEXT),
+    DEPARTMENT("department", "department", Kind.TEXT),
+    SALARY("salary", "salary", Kind.NUMBER),
+    EMAIL("email", "email", Kind.TEXT),
+    PHONE("phone", "phone", Kind.TEXT),
+    HIRE_DATE("hireDate", "hire_date", Kind.DATE),
+    CREATED_AT("createdAt", "created_at", Kind.TIMESTAMP),
+    UPDATED_AT("updatedAt", "updated_at", Kind.TIMESTAMP);
+
+    enum Kind { NUMBER, TEXT, DATE, TIMESTAMP }
+
+    private final String field;
+    private final String sqlColumn;
+    private final Kind kind;
+
+    ExportColumn(String field, String sqlColumn, Kind kind) {
+        this.field = field;
+        this.sqlColumn = sqlColumn;
+        this.kind = kind;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    String sqlColumn() {
+        return sqlColumn;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    /** Parses a comma separated projection such as {@code id,name,salary}; blank means every column. */
+    public static List<ExportColumn> parse(String columns) {
+        if (columns == null || columns.isBlank()) {
+            return List.of(values());
+        }
+        Set<ExportColumn> selected = new LinkedHashSet<>();
+        for (String name : columns.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(byField(trimmed));
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("No export columns selected");
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static ExportColumn byField(String name) {
+        for (ExportColumn column : values()) {
+            if (column.field.equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export column: " + name + " (expected one of "
+                + Arrays.stream(values()).map(ExportColumn::field).toList() + ")");
+    }
+}
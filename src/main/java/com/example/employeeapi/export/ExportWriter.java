@@ -0,0 +1,158 @@
+package com.example.employeeapi.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Turns the current row of a result set straight into output bytes, with no entity or DTO in
+ * between. Numbers and dates are copied as the driver's text; timestamps are written as ISO instants
+ * like the JSON API does.
+ */
+abstract class ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final List<ExportColumn> columns;
+
+    private ExportWriter(List<ExportColumn> columns) {
+        this.columns = columns;
+    }
+
+    static ExportWriter of(ExportFormat format, List<ExportColumn> columns, OutputStream out,
+                           ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(columns, out);
+            case NDJSON -> new Ndjson(columns, out, objectMapper);
+        };
+    }
+
+    abstract void header() throws IOException;
+
+    abstract void row(ResultSet rs) throws SQLException, IOException;
+
+    /** Flushes buffered output; does not close the underlying stream. */
+    abstract void finish() throws IOException;
+
+    // Result set columns are selected in projection order, so column i sits at index i + 1
+    static String text(ResultSet rs, int index, ExportColumn column) throws SQLException {
+        if (column.kind() == ExportColumn.Kind.TIMESTAMP) {
+            Timestamp timestamp = rs.getTimestamp(index);
+            return timestamp == null ? null : timestamp.toInstant().toString();
+        }
+        return rs.getString(index);
+    }
+
+    private static final class Csv extends ExportWriter {
+
+        private final Writer writer;
+
+        private Csv(List<ExportColumn> columns, OutputStream out) {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        void header() throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).field());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = text(rs, i + 1, columns.get(i));
+                if (value != null) {
+                    writeField(value);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: quote fields holding a separator, quote or line break, doubling embedded quotes
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class Ndjson extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private Ndjson(List<ExportColumn> columns, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void header() {
+            // NDJSON rows are self-describing
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                ExportColumn column = columns.get(i);
+                String value = text(rs, i + 1, column);
+                generator.writeFieldName(column.field());
+                if (value == null) {
+                    generator.writeNull();
+                } else if (column.kind() == ExportColumn.Kind.NUMBER) {
+                    generator.writeNumber(value);
+                } else {
+                    generator.writeString(value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
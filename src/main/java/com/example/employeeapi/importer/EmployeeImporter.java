@@ -0,0 +1,339 @@
+package com.example.employeeapi.importer;
+
+import com.example.employeeapi.exception.NotFoundException;
+import com.example.employeeapi.exception.PayloadTooLargeException;
+import com.example.employeeapi.export.ExportFormat;
+import com.example.employeeapi.model.BulkItemResult;
+import com.example.employeeapi.model.BulkOperationResponse;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.ImportJobResponse;
+import com.example.employeeapi.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Background import of CSV or NDJSON uploads. The upload is spooled to a temp file so the request can
+ * return 202 straight away, then a job runs three bounded stages:
+ * <ol>
+ *   <li>a parser thread reads {@code chunk-size} records at a time and hands each chunk to the validators;</li>
+ *   <li>a shared pool validates chunks in parallel against the {@link EmployeeRequest} constraints;</li>
+ *   <li>the job thread takes validated chunks in file order, drops emails repeated within the chunk and
+ *       inserts the rest through {@link EmployeeService#importEmployees}, one transaction per chunk.</li>
+ * </ol>
+ * At most {@code queue-depth} chunks sit between parser and writer, so a slow database blocks the parser
+ * instead of filling the heap. Per-row failures are reported by row number; only an unreadable file or
+ * a failing database fails the job.
+ * <p>
+ * Jobs live in memory on the node that accepted the upload and are lost on restart. Behind a load
+ * balancer, status polls must reach that node (session affinity on the job URL); elsewhere they get 404.
+ */
+@Slf4j
+@Component
+public class EmployeeImporter {
+
+    private static final List<ImportRow> END_OF_INPUT = List.of();
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final EmployeeService employeeService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final int chunkSize;
+    private final int queueDepth;
+    private final int maxErrors;
+    private final Duration retention;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService runners;
+    private final ExecutorService validators;
+    private final Counter insertedRows;
+    private final Counter failedRows;
+
+    public EmployeeImporter(EmployeeService employeeService,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${employee.import.max-bytes}") long maxBytes,
+                            @Value("${employee.import.chunk-size}") int chunkSize,
+                            @Value("${employee.import.queue-depth}") int queueDepth,
+                            @Value("${employee.import.max-concurrent-jobs}") int maxConcurrentJobs,
+                            @Value("${employee.import.validation-threads}") int validationThreads,
+                            @Value("${employee.import.max-errors}") int maxErrors,
+                            @Value("${employee.import.retention-ms}") long retentionMs) {
+        this.employeeService = employeeService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.chunkSize = chunkSize;
+        this.queueDepth = queueDepth;
+        this.maxErrors = maxErrors;
+        this.retention = Duration.ofMillis(retentionMs);
+        // Further jobs wait their turn as QUEUED
+        this.runners = Executors.newFixedThreadPool(maxConcurrentJobs,
+                Thread.ofPlatform().name("employee-import-", 0).daemon().factory());
+        this.validators = Executors.newFixedThreadPool(
+                validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("employee-import-validate-", 0).daemon().factory());
+
+        this.insertedRows = Counter.builder("employee.import.rows")
+                .description("Rows processed by import jobs")
+                .tag("outcome", "inserted")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("employee.import.rows")
+                .description("Rows processed by import jobs")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("employee.import.jobs", jobs, j -> j.values().stream().filter(job -> job.finishedAt() == null).count())
+                .description("Import jobs queued or running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Spools {@code body} (gunzipped first when {@code gzipped}) and queues an import of it. Fails
+     * with {@link PayloadTooLargeException} (413) when the upload is larger than {@code max-bytes}.
+     */
+    public ImportJobResponse submit(ExportFormat format, InputStream body, boolean gzipped) throws IOException {
+        Path upload = Files.createTempFile("employee-import-", "." + format.extension());
+        try (InputStream in = gzipped ? new GZIPInputStream(body, 64 * 1024) : body;
+             OutputStream out = Files.newOutputStream(upload)) {
+            // Counted after decompression, so a small gzip bomb cannot fill the disk either
+            byte[] buffer = new byte[64 * 1024];
+            long total = 0;
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                total += n;
+                if (total > maxBytes) {
+                    throw new PayloadTooLargeException("Import upload exceeds the maximum of " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(upload);
+            throw ex;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, upload, maxErrors);
+        jobs.put(job.id(), job);
+        runners.execute(() -> run(job));
+        log.info("📥 Import {} queued ({}, {} bytes)", job.id(), format, Files.size(upload));
+        return job.toResponse();
+    }
+
+    public ImportJobResponse status(String jobId) {
+        return job(jobId).toResponse();
+    }
+
+    public List<BulkItemResult> errors(String jobId) {
+        return job(jobId).errors();
+    }
+
+    private ImportJob job(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Import job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job) {
+        job.started();
+        long startNanos = System.nanoTime();
+        BlockingQueue<Future<List<ImportRow>>> validated = new ArrayBlockingQueue<>(queueDepth);
+        Thread parser = Thread.ofVirtual().name("employee-import-parse-" + job.id()).start(() -> parse(job, validated));
+        try {
+            write(job, validated);
+            job.completed();
+            ImportJobResponse result = job.toResponse();
+            log.info("📥 Import {} finished in {}ms: {} inserted, {} failed", job.id(),
+                    (System.nanoTime() - startNanos) / 1_000_000, result.getInserted(), result.getFailed());
+        } catch (Exception ex) {
+            Throwable cause = ex instanceof ExecutionException && ex.getCause() != null ? ex.getCause() : ex;
+            job.failed(cause.getMessage());
+            log.warn("📥 Import {} failed: {}", job.id(), cause.getMessage(), cause);
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            parser.interrupt();
+            try {
+                parser.join();
+                Files.deleteIfExists(job.upload());
+            } catch (IOException ex) {
+                log.warn("Could not delete import upload {}", job.upload(), ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Stage 1: parse into chunks and queue their validation; blocks while queue-depth chunks are waiting
+    private void parse(ImportJob job, BlockingQueue<Future<List<ImportRow>>> validated) {
+        try (BufferedReader reader = Files.newBufferedReader(job.upload(), StandardCharsets.UTF_8)) {
+            ImportParser parser = ImportParser.of(job.format(), reader, objectMapper);
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            for (ImportRow row; (row = parser.next()) != null; ) {
+                job.read();
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    List<ImportRow> full = chunk;
+                    validated.put(validators.submit(() -> validate(full)));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<ImportRow> last = chunk;
+                validated.put(validators.submit(() -> validate(last)));
+            }
+            validated.put(CompletableFuture.completedFuture(END_OF_INPUT));
+        } catch (InterruptedException ex) {
+            // The writer gave up
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            // Unreadable upload: fail the job through the writer, which owns its outcome
+            try {
+                validated.put(CompletableFuture.failedFuture(ex));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Stage 2: bean validation, on the validator pool
+    private List<ImportRow> validate(List<ImportRow> chunk) {
+        List<ImportRow> checked = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (!row.valid()) {
+                checked.add(row);
+                continue;
+            }
+            Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                checked.add(row);
+            } else {
+                Map<String, String> errors = new LinkedHashMap<>();
+                violations.forEach(v -> errors.putIfAbsent(v.getPropertyPath().toString(), v.getMessage()));
+                checked.add(ImportRow.invalid(row.row(), errors));
+            }
+        }
+        return checked;
+    }
+
+    // Stage 3: de-duplicate and insert, chunk by chunk in file order
+    private void write(ImportJob job, BlockingQueue<Future<List<ImportRow>>> validated)
+            throws InterruptedException, ExecutionException {
+        while (true) {
+            List<ImportRow> chunk = validated.take().get();
+            if (chunk == END_OF_INPUT) {
+                return;
+            }
+            // Emails from earlier chunks are already in the table and rejected as existing
+            Set<String> emails = new HashSet<>();
+            List<ImportRow> accepted = new ArrayList<>(chunk.size());
+            for (ImportRow row : chunk) {
+                if (!row.valid()) {
+                    fail(job, new BulkItemResult(Math.toIntExact(row.row()), null, BulkItemResult.Status.FAILED,
+                            row.error(), row.fieldErrors()));
+                } else if (!emails.add(row.request().getEmail())) {
+                    fail(job, BulkItemResult.failure(Math.toIntExact(row.row()), null,
+                            "Duplicate email " + row.request().getEmail() + " in upload"));
+                } else {
+                    accepted.add(row);
+                }
+            }
+            insert(job, accepted);
+        }
+    }
+
+    private void insert(ImportJob job, List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        BulkOperationResponse response;
+        try {
+            response = employeeService.importEmployees(rows.stream().map(ImportRow::request).toList());
+        } catch (RuntimeException ex) {
+            if (!isUniqueViolation(ex)) {
+                throw ex;
+            }
+            if (rows.size() == 1) {
+                fail(job, BulkItemResult.failure(Math.toIntExact(rows.get(0).row()), null,
+                        "Employee with email " + rows.get(0).request().getEmail() + " already exists"));
+                return;
+            }
+            // A concurrent create took one of these emails after the check; retry row by row to find it
+            rows.forEach(row -> insert(job, List.of(row)));
+            return;
+        }
+        for (BulkItemResult result : response.getResults()) {
+            int row = Math.toIntExact(rows.get(result.getIndex()).row());
+            if (result.getStatus() == BulkItemResult.Status.FAILED) {
+                fail(job, BulkItemResult.failure(row, null, result.getError()));
+            }
+        }
+        job.inserted(response.getSucceeded());
+        insertedRows.increment(response.getSucceeded());
+    }
+
+    // Thrown from the flush inside the service, so it may arrive untranslated; look for the SQL state
+    private static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(ImportJob job, BulkItemResult result) {
+        job.failed(result);
+        failedRows.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.import.retention-ms}")
+    public void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runners.shutdownNow();
+        validators.shutdownNow();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employeeapi.importer;
+
+import com.example.employeeapi.export.ExportFormat;
+import com.example.employeeapi.model.BulkItemResult;
+import com.example.employeeapi.model.ImportJobResponse;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, updated by the pipeline threads and read by pollers. Keeps at most
+ * {@code maxErrors} row errors (as {@link BulkItemResult}s whose index is the row number).
+ */
+final class ImportJob {
+
+    private final String id;
+    private final ExportFormat format;
+    private final Path upload;
+    private final int maxErrors;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<BulkItemResult> errors = new ArrayList<>();
+
+    private volatile ImportJobResponse.Status status = ImportJobResponse.Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ImportJob(String id, ExportFormat format, Path upload, int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.upload = upload;
+        this.maxErrors = maxErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    ExportFormat format() {
+        return format;
+    }
+
+    Path upload() {
+        return upload;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = ImportJobResponse.Status.RUNNING;
+    }
+
+    void read() {
+        rowsRead.incrementAndGet();
+    }
+
+    void inserted(long count) {
+        inserted.addAndGet(count);
+    }
+
+    void failed(BulkItemResult result) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(result);
+            }
+        }
+    }
+
+    void completed() {
+        finish(ImportJobResponse.Status.COMPLETED, null);
+    }
+
+    void failed(String reason) {
+        finish(ImportJobResponse.Status.FAILED, reason);
+    }
+
+    private void finish(ImportJobResponse.Status outcome, String reason) {
+        error = reason;
+        finishedAt = Instant.now();
+        status = outcome;
+    }
+
+    List<BulkItemResult> errors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    ImportJobResponse toResponse() {
+        long failedRows = failed.get();
+        return new ImportJobResponse(id, status, format.name().toLowerCase(Locale.ROOT), rowsRead.get(), inserted.get(),
+                failedRows, submittedAt, startedAt, finishedAt, error, failedRows > maxErrors);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employeeapi.importer;
+
+import com.example.employeeapi.export.ExportFormat;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns an upload into {@link ImportRow}s, one at a time. Accepts what {@code /api/employees/export}
+ * writes: CSV with a header naming the {@link EmployeeRequest} fields (other columns such as id are
+ * ignored), or NDJSON with one request per line. A record that cannot be read becomes a row with an
+ * error; only an unreadable file as a whole fails the import.
+ */
+abstract class ImportParser {
+
+    protected long rows;
+
+    static ImportParser of(ExportFormat format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(reader);
+            case NDJSON -> new Ndjson(reader, objectMapper);
+        };
+    }
+
+    /** The next record, or null at end of input. */
+    abstract ImportRow next() throws IOException;
+
+    private static final class Csv extends ImportParser {
+
+        private static final List<String> REQUIRED = List.of("name", "position", "department", "salary", "email", "phone", "hiredate");
+
+        private final CsvReader reader;
+        private final int[] positions = new int[REQUIRED.size()];
+
+        private Csv(BufferedReader input) throws IOException {
+            this.reader = new CsvReader(input);
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV upload is empty");
+            }
+            Map<String, Integer> columns = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+            List<String> missing = REQUIRED.stream().filter(name -> !columns.containsKey(name)).toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV header is missing column(s) " + missing);
+            }
+            for (int i = 0; i < REQUIRED.size(); i++) {
+                positions[i] = columns.get(REQUIRED.get(i));
+            }
+        }
+
+        @Override
+        ImportRow next() throws IOException {
+            List<String> fields = reader.next();
+            if (fields == null) {
+                return null;
+            }
+            long row = ++rows;
+            Map<String, String> errors = new LinkedHashMap<>();
+            EmployeeRequest request = new EmployeeRequest();
+            request.setName(field(fields, 0));
+            request.setPosition(field(fields, 1));
+            request.setDepartment(field(fields, 2));
+            String salary = field(fields, 3);
+            if (salary != null) {
+                try {
+                    request.setSalary(new BigDecimal(salary.trim()));
+                } catch (NumberFormatException ex) {
+                    errors.put("salary", "Salary must be a number");
+                }
+            }
+            request.setEmail(field(fields, 4));
+            request.setPhone(field(fields, 5));
+            String hireDate = field(fields, 6);
+            if (hireDate != null) {
+                try {
+                    request.setHireDate(LocalDate.parse(hireDate.trim()));
+                } catch (DateTimeParseException ex) {
+                    errors.put("hireDate", "Hire date must be an ISO date (yyyy-MM-dd)");
+                }
+            }
+            return errors.isEmpty() ? ImportRow.parsed(row, request) : ImportRow.invalid(row, errors);
+        }
+
+        // Empty cells become null so the usual @NotBlank/@NotNull messages apply
+        private String field(List<String> fields, int required) {
+            int position = positions[required];
+            if (position >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(position);
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private static final class Ndjson extends ImportParser {
+
+        private final BufferedReader reader;
+        private final ObjectReader requestReader;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.requestReader = objectMapper.readerFor(EmployeeRequest.class);
+        }
+
+        @Override
+        ImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            long row = ++rows;
+            try {
+                return ImportRow.parsed(row, requestReader.readValue(line));
+            } catch (JsonProcessingException ex) {
+                return ImportRow.malformed(row, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.employeeapi.importer;
+
+import com.example.employeeapi.model.EmployeeRequest;
+
+import java.util.Map;
+
+/**
+ * One record of an upload, numbered from 1 in file order (header and blank lines not counted).
+ * Carries either a request or why it could not be turned into a valid one.
+ */
+record ImportRow(long row, EmployeeRequest request, String error, Map<String, String> fieldErrors) {
+
+    static ImportRow parsed(long row, EmployeeRequest request) {
+        return new ImportRow(row, request, null, null);
+    }
+
+    static ImportRow malformed(long row, String error) {
+        return new ImportRow(row, null, error, null);
+    }
+
+    static ImportRow invalid(long row, Map<String, String> fieldErrors) {
+        return new ImportRow(row, null, "Validation failed", fieldErrors);
+    }
+
+    boolean valid() {
+        return request != null;
+    }
+}
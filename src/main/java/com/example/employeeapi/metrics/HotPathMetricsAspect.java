@@ -0,0 +1,112 @@
+package com.example.employeeapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers per service method ({@code employee.service}) and per repository query
+ * ({@code employee.repository}), tagged with the method and outcome, so DB time can be told apart
+ * from everything around it. The same durations feed the current {@link RequestProfile}.
+ * Timers are resolved once per method and cached; the hot path is a map lookup and a clock read.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class HotPathMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MethodKey, Timers> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.employeeapi.service.EmployeeService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile profile = RequestProfile.current();
+        boolean outermost = profile != null && profile.enterService();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timers(joinPoint, "employee.service", "service").record(success, nanos);
+            if (profile != null) {
+                profile.exitService(outermost, nanos);
+            }
+        }
+    }
+
+    // Streaming queries return before their rows are read; only the call itself is timed
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile profile = RequestProfile.current();
+        boolean outermost = profile != null && profile.enterRepository();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timers(joinPoint, "employee.repository", "repository").record(success, nanos);
+            if (profile != null) {
+                profile.exitRepository(outermost, nanos);
+            }
+        }
+    }
+
+    private Timers timers(ProceedingJoinPoint joinPoint, String name, String ownerTag) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> target = joinPoint.getTarget().getClass();
+        return timers.computeIfAbsent(new MethodKey(target, method),
+                key -> new Timers(name, ownerTag, owner(target, method), method.getName()));
+    }
+
+    // Repository beans are JDK proxies: name them after the application interface, not the proxy class
+    private static String owner(Class<?> target, Method method) {
+        for (Class<?> type : Proxy.isProxyClass(target) ? target.getInterfaces() : new Class<?>[]{target}) {
+            if (type.getName().startsWith("com.example.employeeapi.")) {
+                return type.getSimpleName();
+            }
+        }
+        return method.getDeclaringClass().getSimpleName();
+    }
+
+    private record MethodKey(Class<?> target, Method method) {
+    }
+
+    private final class Timers {
+        final Timer success;
+        final Timer failure;
+
+        Timers(String name, String ownerTag, String owner, String method) {
+            this.success = timer(name, ownerTag, owner, method, "success");
+            this.failure = timer(name, ownerTag, owner, method, "failure");
+        }
+
+        void record(boolean succeeded, long nanos) {
+            (succeeded ? success : failure).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer timer(String name, String ownerTag, String owner, String method, String outcome) {
+            return Timer.builder(name)
+                    .tag(ownerTag, owner)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.employeeapi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One JFR event per HTTP request with its phase breakdown. Costs next to nothing unless a recording
+ * with this event enabled is running, e.g. {@code jcmd <pid> JFR.start settings=profile}.
+ */
+@Name("com.example.employeeapi.Request")
+@Label("HTTP Request")
+@Category({"Employee API"})
+@Description("Request with time spent in the service and repository layers and the SQL statement count")
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+
+    @Label("SQL Statements")
+    int statements;
+
+    @Label("Service Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long serviceTime;
+
+    @Label("Repository Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long repositoryTime;
+
+    @Label("Other Time")
+    @Description("Filters, security, controller and serialization: everything outside the service layer")
+    @Timespan(Timespan.NANOSECONDS)
+    long otherTime;
+}
@@ -0,0 +1,71 @@
+package com.example.employeeapi.metrics;
+
+/**
+ * Per-request phase accounting on the request thread: time spent in the service and repository
+ * layers and the number of SQL statements Hibernate prepared. Opened and closed by
+ * {@link RequestProfileFilter}; outside a request {@link #current()} is null and recording is a no-op.
+ * Work a request hands to other threads (streaming bodies) is not attributed to it.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long serviceNanos;
+    private long repositoryNanos;
+    // Only the outermost call of each layer is counted, so nested calls are not added twice
+    private int serviceDepth;
+    private int repositoryDepth;
+
+    static RequestProfile begin() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    boolean enterService() {
+        return serviceDepth++ == 0;
+    }
+
+    void exitService(boolean outermost, long nanos) {
+        serviceDepth--;
+        if (outermost) {
+            serviceNanos += nanos;
+        }
+    }
+
+    boolean enterRepository() {
+        return repositoryDepth++ == 0;
+    }
+
+    void exitRepository(boolean outermost, long nanos) {
+        repositoryDepth--;
+        if (outermost) {
+            repositoryNanos += nanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long serviceNanos() {
+        return serviceNanos;
+    }
+
+    public long repositoryNanos() {
+        return repositoryNanos;
+    }
+}
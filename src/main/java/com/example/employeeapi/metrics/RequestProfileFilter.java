@@ -0,0 +1,117 @@
+package com.example.employeeapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens a {@link RequestProfile} for each request and, once the handler is done, records the SQL
+ * statement count per route ({@code http.server.requests.statements}), flags likely N+1 access
+ * (more statements than {@code employee.metrics.n-plus-one-threshold}) and optionally emits a
+ * {@link RequestEvent} for JFR. Sits just inside {@code LoggingFilter}, which adds the statement
+ * count to the access record.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestProfileFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_ATTRIBUTE = RequestProfileFilter.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final boolean jfrEvents;
+    private final Map<String, RouteMeters> routes = new ConcurrentHashMap<>();
+
+    public RequestProfileFilter(MeterRegistry meterRegistry,
+                                @Value("${employee.metrics.n-plus-one-threshold}") int nPlusOneThreshold,
+                                @Value("${employee.metrics.jfr-events}") boolean jfrEvents) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.jfrEvents = jfrEvents;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestEvent event = jfrEvents ? new RequestEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long startNanos = System.nanoTime();
+        RequestProfile profile = RequestProfile.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestProfile.end();
+            record(request, response, profile, System.nanoTime() - startNanos, event);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestProfile profile,
+                        long totalNanos, RequestEvent event) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        int statements = profile.statements();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+
+        RouteMeters meters = routes.computeIfAbsent(request.getMethod() + " " + route,
+                key -> new RouteMeters(request.getMethod(), route));
+        meters.statements.record(statements);
+        if (statements > nPlusOneThreshold) {
+            meters.nPlusOne.increment();
+            if (!meters.warned) {
+                meters.warned = true;
+                log.warn("Possible N+1: {} {} ran {} SQL statements (threshold {}); further occurrences only counted in http.server.requests.n-plus-one",
+                        request.getMethod(), route, statements, nPlusOneThreshold);
+            }
+        }
+
+        if (event != null && event.shouldCommit()) {
+            event.end();
+            event.method = request.getMethod();
+            event.route = route;
+            event.status = response.getStatus();
+            event.statements = statements;
+            event.serviceTime = profile.serviceNanos();
+            event.repositoryTime = profile.repositoryNanos();
+            event.otherTime = Math.max(0, totalNanos - profile.serviceNanos());
+            event.commit();
+        }
+    }
+
+    private final class RouteMeters {
+        final DistributionSummary statements;
+        final Counter nPlusOne;
+        volatile boolean warned;
+
+        RouteMeters(String method, String route) {
+            this.statements = DistributionSummary.builder("http.server.requests.statements")
+                    .description("SQL statements prepared by Hibernate per request")
+                    .tag("method", method)
+                    .tag("uri", route)
+                    .register(meterRegistry);
+            this.nPlusOne = Counter.builder("http.server.requests.n-plus-one")
+                    .description("Requests that ran more SQL statements than the N+1 threshold")
+                    .tag("method", method)
+                    .tag("uri", route)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.employeeapi.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the current {@link RequestProfile}. The SQL
+ * is returned unchanged. Statements issued through JdbcTemplate bypass Hibernate and are not counted.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.statementPrepared();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.employeeapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    public enum Status {
+        CREATED, UPDATED, DELETED, FAILED
+    }
+
+    // Position of the item in the request array
+    private int index;
+    private Long id;
+    private Status status;
+    private String error;
+    private Map<String, String> fieldErrors;
+
+    public static BulkItemResult success(int index, Long id, Status status) {
+        return new BulkItemResult(index, id, status, null, null);
+    }
+
+    public static BulkItemResult failure(int index, Long id, String error) {
+        return new BulkItemResult(index, id, Status.FAILED, error, null);
+    }
+
+    public static BulkItemResult invalid(int index, Long id, Map<String, String> fieldErrors) {
+        return new BulkItemResult(index, id, Status.FAILED, "Validation failed", fieldErrors);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public static BulkOperationResponse of(List<BulkItemResult> results) {
+        int failed = (int) results.stream().filter(r -> r.getStatus() == BulkItemResult.Status.FAILED).count();
+        return new BulkOperationResponse(results.size() - failed, failed, results);
+    }
+}
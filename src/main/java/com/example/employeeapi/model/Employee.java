@@ -6,17 +6,25 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        // Leading department column also serves plain department lookups
+        @Index(name = "idx_employees_department_id", columnList = "department, id"),
+        // Keyset scans for delta sync (?changedSince=)
+        @Index(name = "idx_employees_change_seq", columnList = "change_seq")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can JDBC-batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -55,17 +63,29 @@ public class Employee {
     private LocalDate hireDate;
 
     @Column(updatable = false)
-    private LocalDate createdAt;
+    private Instant createdAt;
 
-    private LocalDate updatedAt;
+    private Instant updatedAt;
+
+    // Optimistic locking for JPA writes; also the source of the employee's ETag
+    @Version
+    private Long version;
+
+    // Maintained by the employees_track_change trigger (V2__employee_change_tracking.sql) on every insert and update
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    @Column(name = "changed_at", insertable = false, updatable = false)
+    private Instant changedAt;
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDate.now();
+        createdAt = Instant.now();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDate.now();
+        updatedAt = Instant.now();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResponse {
+    // Found employees, in the order their ids were requested (duplicates collapsed)
+    private List<EmployeeResponse> items;
+    // Requested ids with no employee
+    private List<Long> missing;
+}
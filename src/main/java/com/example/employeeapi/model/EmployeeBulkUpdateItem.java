@@ -0,0 +1,20 @@
+package com.example.employeeapi.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkUpdateItem {
+
+    @NotNull(message = "ID is required")
+    private Long id;
+
+    @NotNull(message = "Employee data is required")
+    @Valid
+    private EmployeeRequest employee;
+}
@@ -0,0 +1,40 @@
+package com.example.employeeapi.model;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Transactional outbox row: written in the same transaction as the employee change it describes.
+ * The identity id is the stream offset clients resume from. Rows are inserted with JDBC (see
+ * {@code ChangeOutbox}); the entity only defines the table.
+ */
+@Entity
+@Table(name = "employee_changes", indexes = {
+        @Index(name = "idx_employee_changes_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+public class EmployeeChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private EmployeeChangedEvent.ChangeType type;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    // The serialized EmployeeChangedEvent, sent to subscribers as is
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
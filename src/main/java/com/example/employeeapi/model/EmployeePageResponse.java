@@ -0,0 +1,17 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageResponse {
+    private List<EmployeeResponse> items;
+    private int limit;
+    // Opaque cursor for the next page, null when this is the last page
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchHit {
+    private Long id;
+    private String name;
+    private String position;
+    private String department;
+    private String email;
+    // Relative relevance; only meaningful for ordering hits of the same query
+    private double score;
+}
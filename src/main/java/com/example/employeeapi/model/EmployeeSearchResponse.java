@@ -0,0 +1,17 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchResponse {
+    private String query;
+    // Best matches first, at most 'limit' of them
+    private List<EmployeeSearchHit> items;
+    private int limit;
+}
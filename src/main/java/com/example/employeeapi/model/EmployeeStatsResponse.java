@@ -0,0 +1,17 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeStatsResponse {
+    private long totalEmployees;
+    private double averageSalary;
+    private BigDecimal highestSalary;
+    private int departmentCount;
+}
@@ -0,0 +1,20 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSyncResponse {
+    // Created or updated since the token, in change order
+    private List<EmployeeResponse> changed;
+    // Ids of employees deleted since the token, in change order
+    private List<Long> deleted;
+    // Pass back as 'changedSince' for the next call; unchanged when there was nothing new
+    private String nextToken;
+    private boolean hasMore;
+}
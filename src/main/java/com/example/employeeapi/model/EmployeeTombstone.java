@@ -0,0 +1,32 @@
+package com.example.employeeapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Marker left behind by a deleted employee so delta sync can report the deletion. Written by the
+ * employees_track_change trigger (V2__employee_change_tracking.sql); the entity only defines the table.
+ */
+@Entity
+@Table(name = "employee_tombstones")
+@Data
+@NoArgsConstructor
+public class EmployeeTombstone {
+
+    // Shares employee_change_seq with employees.change_seq, so both merge into one ordered stream
+    @Id
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
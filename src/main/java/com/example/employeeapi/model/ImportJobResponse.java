@@ -0,0 +1,34 @@
+package com.example.employeeapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponse {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String id;
+    private Status status;
+    private String format;
+    // Records parsed so far; inserted + failed once the job is done
+    private long rowsRead;
+    private long inserted;
+    private long failed;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    // Why the job as a whole failed (unreadable file, database down); row errors are under /errors
+    private String error;
+    // More rows failed than the error report keeps
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,18 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryAnalyticsResponse {
+    // Company-wide, or the requested department
+    private SalaryBreakdown summary;
+    private List<SalaryHistogramBucket> histogram;
+    // One entry per department, ordered by name
+    private List<SalaryBreakdown> departments;
+}
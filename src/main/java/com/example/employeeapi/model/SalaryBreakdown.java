@@ -0,0 +1,25 @@
+package com.example.employeeapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalaryBreakdown {
+    // Null for the company-wide breakdown
+    private String department;
+    private long count;
+    // Amounts are null when count is 0
+    private BigDecimal min;
+    private BigDecimal average;
+    private BigDecimal max;
+    private BigDecimal median;
+    private BigDecimal p90;
+    private BigDecimal p99;
+}
@@ -0,0 +1,18 @@
+package com.example.employeeapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryHistogramBucket {
+    // Inclusive lower bound
+    private BigDecimal from;
+    // Exclusive upper bound
+    private BigDecimal to;
+    private long count;
+}
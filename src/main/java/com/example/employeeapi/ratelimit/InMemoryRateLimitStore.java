@@ -0,0 +1,42 @@
+package com.example.employeeapi.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-process buckets, one CAS-updated long each. Used when no shared store is configured (quotas are
+ * then per node) and in tests, where the clock can be driven by hand.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public InMemoryRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    public InMemoryRateLimitStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, long intervalNanos, int burst) {
+        AtomicLong arrival = arrivals.computeIfAbsent(key, k -> new AtomicLong(clock.getAsLong()));
+        long tolerance = intervalNanos * burst;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employeeapi.ratelimit;
+
+/**
+ * Where token buckets live. Each bucket is a single GCRA "theoretical arrival time", so a shared
+ * implementation (e.g. Redis running the same compare-and-set as a script, with the server clock)
+ * makes quotas hold across all nodes. Implementations must apply {@link #tryAcquire} atomically per key.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from bucket {@code key}, which gains a token every {@code intervalNanos} and holds
+     * at most {@code burst}. Returns 0 when the token was taken, otherwise the nanoseconds until one is
+     * available (and takes nothing).
+     */
+    long tryAcquire(String key, long intervalNanos, int burst);
+}
@@ -0,0 +1,65 @@
+package com.example.employeeapi.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Token buckets split into stripes: a quota of {@code r}/s with burst {@code b} becomes {@code n}
+ * buckets of {@code r/n}/s and {@code b/n} (the first {@code b % n} stripes take one extra, so together
+ * they hold exactly {@code b}), picked at random per request, so one busy client does not serialize
+ * every request thread on a single compare-and-set (or a single key in a shared store).
+ * A request refused by its stripe tries one neighbour before it is rejected, which keeps the
+ * effective limit close to the configured one when stripes drift apart.
+ */
+public class StripedRateLimiter {
+
+    private final RateLimitStore store;
+    private final int stripes;
+
+    public StripedRateLimiter(RateLimitStore store, int stripes) {
+        this.store = store;
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /** A bucket for {@code name}; null when {@code permitsPerSecond} is not positive (unlimited). */
+    public Bucket bucket(String name, double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            return null;
+        }
+        int n = Math.max(1, Math.min(stripes, burst));
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = name + "#" + i;
+        }
+        long intervalNanos = Math.max(1, Math.round(n * 1_000_000_000d / permitsPerSecond));
+        int[] bursts = new int[n];
+        for (int i = 0; i < n; i++) {
+            bursts[i] = Math.max(1, burst / n + (i < burst % n ? 1 : 0));
+        }
+        return new Bucket(keys, intervalNanos, bursts);
+    }
+
+    public final class Bucket {
+
+        private final String[] keys;
+        private final long intervalNanos;
+        private final int[] bursts;
+
+        private Bucket(String[] keys, long intervalNanos, int[] bursts) {
+            this.keys = keys;
+            this.intervalNanos = intervalNanos;
+            this.bursts = bursts;
+        }
+
+        /** 0 when the request may proceed, otherwise nanoseconds until it could. */
+        public long tryAcquire() {
+            int first = keys.length == 1 ? 0 : ThreadLocalRandom.current().nextInt(keys.length);
+            long wait = store.tryAcquire(keys[first], intervalNanos, bursts[first]);
+            if (wait == 0 || keys.length == 1) {
+                return wait;
+            }
+            int next = (first + 1) % keys.length;
+            long neighbour = store.tryAcquire(keys[next], intervalNanos, bursts[next]);
+            return neighbour == 0 ? 0 : Math.min(wait, neighbour);
+        }
+    }
+}
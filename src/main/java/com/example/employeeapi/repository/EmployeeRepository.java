@@ -1,15 +1,21 @@
 package com.example.employeeapi.repository;
 
 import com.example.employeeapi.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeWriteRepository {
 
     Optional<Employee> findByEmail(String email);
 
@@ -19,12 +25,41 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
+    // (id, email) pairs for every email that is already taken; used for set-based uniqueness checks
+    @Query("SELECT e.id, e.email FROM Employee e WHERE e.email IN :emails")
+    List<Object[]> findEmailOwners(Collection<String> emails);
+
+    // Keyset page: rows strictly after the given id, in id order
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Employee> findByDepartmentAndIdGreaterThanOrderByIdAsc(String department, Long id, Limit limit);
+
+    // Delta sync: rows changed after the given change_seq, served by idx_employees_change_seq
+    List<Employee> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long changeSeq, Limit limit);
+
+    // Server-side cursor over the whole table; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllOrderById();
+
     @Query("SELECT e.department, COUNT(e) FROM Employee e GROUP BY e.department")
     List<Object[]> findEmployeeCountByDepartment();
 
+    // One row per (department, salary) pair; enough to rebuild every in-memory aggregate in a single pass
+    @Query("SELECT e.department, e.salary, COUNT(e) FROM Employee e GROUP BY e.department, e.salary")
+    List<Object[]> findSalaryDistributionByDepartment();
+
+    // Same rows, sorted so per-department salary columns can be filled by appending
+    @Query("SELECT e.department, e.salary, COUNT(e) FROM Employee e GROUP BY e.department, e.salary ORDER BY e.department, e.salary")
+    List<Object[]> findSalaryDistributionByDepartmentOrdered();
+
     @Query("SELECT AVG(e.salary) FROM Employee e")
     Double findAverageSalary();
 
     @Query("SELECT MAX(e.salary) FROM Employee e")
     BigDecimal findMaxSalary();
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.example.employeeapi.repository;
+
+import com.example.employeeapi.model.Employee;
+
+import java.util.Optional;
+
+/**
+ * Single-statement write paths that bypass the JPA select-before-write. Mixed into
+ * {@link EmployeeRepository}; unique violations surface as {@link org.springframework.dao.DuplicateKeyException}.
+ */
+public interface EmployeeWriteRepository {
+
+    /**
+     * Overwrites every mutable column of the employee with the given id in one {@code UPDATE ... RETURNING}
+     * and bumps its version. With a non-null {@code expectedVersion} the row is only touched while it still
+     * has that version. Empty when no row matched.
+     */
+    Optional<RowChange> updateReturning(Long id, Employee values, Long expectedVersion);
+
+    /** Deletes in one {@code DELETE ... RETURNING}; the removed row, or empty when it did not exist. */
+    Optional<Employee> deleteReturning(Long id);
+
+    record RowChange(Employee previous, Employee current) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employeeapi.repository;
+
+import com.example.employeeapi.model.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class EmployeeWriteRepositoryImpl implements EmployeeWriteRepository {
+
+    private static final String COLUMNS = "id, name, position, department, salary, email, phone, hire_date, created_at, updated_at, version";
+
+    // The old row is read under FOR UPDATE first: a plain self-join would return the statement's snapshot of it,
+    // which under READ COMMITTED can be older than the row the UPDATE ends up changing after waiting for a lock
+    private static final String UPDATE = """
+            WITH old AS (
+                SELECT id, name, position, department, salary, email, phone, hire_date, updated_at, version
+                FROM employees WHERE id = :id FOR UPDATE
+            )
+            UPDATE employees e
+            SET name = :name, position = :position, department = :department, salary = :salary,
+                email = :email, phone = :phone, hire_date = :hireDate, updated_at = :updatedAt,
+                version = COALESCE(e.version, 0) + 1
+            FROM old
+            WHERE e.id = old.id
+            """;
+
+    private static final String RETURNING = """
+            RETURNING e.id, e.name, e.position, e.department, e.salary, e.email, e.phone,
+                      e.hire_date, e.created_at, e.updated_at, e.version,
+                      old.name AS old_name, old.position AS old_position, old.department AS old_department,
+                      old.salary AS old_salary, old.email AS old_email, old.phone AS old_phone,
+                      old.hire_date AS old_hire_date, old.updated_at AS old_updated_at, old.version AS old_version
+            """;
+
+    private static final String UPDATE_RETURNING = UPDATE + RETURNING;
+
+    private static final String UPDATE_RETURNING_IF_VERSION = UPDATE + "AND old.version = :expectedVersion\n" + RETURNING;
+
+    private static final String DELETE_RETURNING = "DELETE FROM employees WHERE id = :id RETURNING " + COLUMNS;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<RowChange> updateReturning(Long id, Employee values, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("expectedVersion", expectedVersion)
+                .addValue("name", values.getName())
+                .addValue("position", values.getPosition())
+                .addValue("department", values.getDepartment())
+                .addValue("salary", values.getSalary())
+                .addValue("email", values.getEmail())
+                .addValue("phone", values.getPhone())
+                .addValue("hireDate", values.getHireDate())
+                .addValue("updatedAt", Timestamp.from(Instant.now()));
+        String sql = expectedVersion == null ? UPDATE_RETURNING : UPDATE_RETURNING_IF_VERSION;
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            Employee current = mapRow(rs, "");
+            Employee previous = mapRow(rs, "old_");
+            previous.setId(current.getId());
+            previous.setCreatedAt(current.getCreatedAt());
+            return new RowChange(previous, current);
+        }).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Employee> deleteReturning(Long id) {
+        return jdbcTemplate.query(DELETE_RETURNING, new MapSqlParameterSource("id", id), (rs, rowNum) -> mapRow(rs, ""))
+                .stream().findFirst();
+    }
+
+    // Columns missing under the prefix (id and created_at for "old_") are left null
+    private static Employee mapRow(ResultSet rs, String prefix) throws SQLException {
+        Employee employee = new Employee();
+        if (prefix.isEmpty()) {
+            employee.setId(rs.getLong("id"));
+            employee.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        }
+        employee.setName(rs.getString(prefix + "name"));
+        employee.setPosition(rs.getString(prefix + "position"));
+        employee.setDepartment(rs.getString(prefix + "department"));
+        employee.setSalary(rs.getBigDecimal(prefix + "salary"));
+        employee.setEmail(rs.getString(prefix + "email"));
+        employee.setPhone(rs.getString(prefix + "phone"));
+        employee.setHireDate(toLocalDate(rs.getDate(prefix + "hire_date")));
+        employee.setUpdatedAt(toInstant(rs.getTimestamp(prefix + "updated_at")));
+        employee.setVersion(rs.getObject(prefix + "version", Long.class));
+        return employee;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
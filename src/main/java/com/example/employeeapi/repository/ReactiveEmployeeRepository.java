@@ -0,0 +1,97 @@
+package com.example.employeeapi.repository;
+
+import com.example.employeeapi.model.EmployeeResponse;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking reads of the employees table over R2DBC, mapped straight to {@link EmployeeResponse}.
+ * Deliberately not a Spring Data repository: JPA owns the entity, and this side only ever reads.
+ * Pages are keyset pages over the same indexes as the JPA queries, fetched {@code fetchSize} rows per
+ * round trip as the subscriber asks for them, so a slow reader holds back the query rather than
+ * buffering the table.
+ */
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS = "id, name, position, department, salary, email, phone, hire_date, created_at, updated_at, version";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM employees WHERE id = :id";
+
+    private static final String FIND_PAGE = "SELECT " + COLUMNS
+            + " FROM employees WHERE id > :after ORDER BY id LIMIT :limit";
+
+    private static final String FIND_DEPARTMENT_PAGE = "SELECT " + COLUMNS
+            + " FROM employees WHERE department = :department AND id > :after ORDER BY id LIMIT :limit";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient client;
+    private final int fetchSize;
+
+    public ReactiveEmployeeRepository(ConnectionFactory connectionFactory, int fetchSize) {
+        this.connectionFactory = connectionFactory;
+        this.client = DatabaseClient.create(connectionFactory);
+        this.fetchSize = fetchSize;
+    }
+
+    public Mono<EmployeeResponse> findById(long id) {
+        return client.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    /** Employees with an id above {@code afterId}, in id order, at most {@code limit} of them. */
+    public Flux<EmployeeResponse> findPage(long afterId, int limit) {
+        return client.sql(FIND_PAGE)
+                .bind("after", afterId)
+                .bind("limit", limit)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toResponse)
+                .all();
+    }
+
+    /** As {@link #findPage}, within one department; served by the (department, id) index. */
+    public Flux<EmployeeResponse> findDepartmentPage(String department, long afterId, int limit) {
+        return client.sql(FIND_DEPARTMENT_PAGE)
+                .bind("department", department)
+                .bind("after", afterId)
+                .bind("limit", limit)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveEmployeeRepository::toResponse)
+                .all();
+    }
+
+    // Closes the pool this repository was given, if it is one
+    public void close() {
+        if (connectionFactory instanceof Disposable pool) {
+            pool.dispose();
+        }
+    }
+
+    // Read as OffsetDateTime: both the Postgres and the H2 driver decode timestamptz to it
+    static EmployeeResponse toResponse(Readable row) {
+        OffsetDateTime createdAt = row.get("created_at", OffsetDateTime.class);
+        OffsetDateTime updatedAt = row.get("updated_at", OffsetDateTime.class);
+        return new EmployeeResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("position", String.class),
+                row.get("department", String.class),
+                row.get("salary", BigDecimal.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("hire_date", LocalDate.class),
+                createdAt == null ? null : createdAt.toInstant(),
+                updatedAt == null ? null : updatedAt.toInstant(),
+                row.get("version", Long.class)
+        );
+    }
+}
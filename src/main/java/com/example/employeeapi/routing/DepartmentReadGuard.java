@@ -0,0 +1,64 @@
+package com.example.employeeapi.routing;
+
+import com.example.employeeapi.cache.CacheInvalidationBus;
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes for cached department pages, the per-department counterpart of
+ * {@link ReadYourWritesFilter}: a department written to in the last {@code sticky-window} is read from
+ * the primary, so the page cached right after an eviction is never filled from a replica that has not
+ * replayed the write yet. Outside the window the department has not changed for longer than the lag
+ * bound, and any healthy replica returns what the primary would.
+ */
+@Component
+public class DepartmentReadGuard {
+
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<String, Boolean> recentlyWritten;
+
+    public DepartmentReadGuard(CacheInvalidationBus invalidationBus,
+                               @Value("${employee.datasource.replicas.sticky-window-ms}") long stickyWindowMs) {
+        this.invalidationBus = invalidationBus;
+        this.recentlyWritten = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyWindowMs))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // Writes on other nodes: their department evictions arrive over the bus
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(invalidation -> {
+            if (EmployeeCacheInvalidator.DEPARTMENTS_CACHE.equals(invalidation.cacheName())
+                    && invalidation.key() instanceof String department) {
+                recentlyWritten.put(department, Boolean.TRUE);
+            }
+        });
+    }
+
+    // Synchronous on purpose: marked inside the writing transaction, before the change commits
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.previous() != null) {
+            recentlyWritten.put(event.previous().getDepartment(), Boolean.TRUE);
+        }
+        if (event.current() != null) {
+            recentlyWritten.put(event.current().getDepartment(), Boolean.TRUE);
+        }
+    }
+
+    /** Runs a read of {@code department}, pinned to the primary if the department was written to recently. */
+    public <T> T read(String department, Supplier<T> work) {
+        return recentlyWritten.getIfPresent(department) != null ? ReplicaRouter.onPrimary(work) : work.get();
+    }
+}
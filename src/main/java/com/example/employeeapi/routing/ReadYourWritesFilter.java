@@ -0,0 +1,84 @@
+package com.example.employeeapi.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Read-your-writes for replica routing: once a client sends a mutation, its requests for the next
+ * {@code sticky-window} are pinned to the primary, so it never reads a replica that has not replayed
+ * its own write yet. Clients are keyed by authenticated principal, falling back to the remote address.
+ * Principals shared by many callers (the legacy API key the whole frontend uses) are keyed by their
+ * {@code X-Client-ID} instead, and not pinned at all without one: keyed by the principal, one frontend
+ * write would send every frontend user's reads to the primary for the whole window. Such callers then
+ * get read-your-writes only up to the replica lag bound.
+ * The window is tracked per node; behind a load balancer without session affinity a client may still
+ * land on a node that has not seen its write, which the lag bound then limits.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    static final String CLIENT_ID_HEADER = "X-Client-ID";
+    private static final Pattern CLIENT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final Cache<String, Boolean> recentWriters;
+    private final Set<String> sharedPrincipals;
+
+    public ReadYourWritesFilter(Duration stickyWindow, Set<String> sharedPrincipals) {
+        this.sharedPrincipals = Set.copyOf(sharedPrincipals);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String client = clientKey(request);
+        if (client == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean pinned = recentWriters.getIfPresent(client) != null;
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            // Marked before the write runs: its response may reach the client, and the client's next
+            // read reach us, before this thread gets back here
+            recentWriters.put(client, Boolean.TRUE);
+        }
+        Boolean previous = pinned ? ReplicaRouter.pinToPrimary() : null;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReplicaRouter.restorePin(previous);
+            }
+        }
+    }
+
+    // Null when the caller cannot be told apart from others sharing its principal
+    private String clientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal == null) {
+            return "addr:" + request.getRemoteAddr();
+        }
+        if (!sharedPrincipals.contains(principal.getName())) {
+            return "principal:" + principal.getName();
+        }
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && CLIENT_ID.matcher(clientId).matches()
+                ? "client:" + principal.getName() + ":" + clientId
+                : null;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.employeeapi.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Decides which pool serves the current unit of work: read-only transactions go round robin to a
+ * replica whose replication lag is within bounds, everything else (writes, autocommit statements,
+ * read-only work of a client that just wrote) goes to the primary. With no healthy replica every
+ * read falls back to the primary, so a lagging or unreachable replica costs throughput, not freshness.
+ */
+@Slf4j
+public class ReplicaRouter implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter routedWrite;
+    private final Counter routedPinned;
+    private final Counter routedFallback;
+    private final Counter routedReplica;
+
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas, String lagQuery,
+                         Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        this.routedWrite = routed(meterRegistry, PRIMARY, "write");
+        this.routedPinned = routed(meterRegistry, PRIMARY, "pinned");
+        this.routedFallback = routed(meterRegistry, PRIMARY, "fallback");
+        this.routedReplica = routed(meterRegistry, "replica", "read");
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag seen by the last check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica currently receives read-only work")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .description("Units of work routed to the primary or a replica")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code work} with every transaction it starts pinned to the primary, whether or not it is
+     * read-only. For reads that must observe everything already committed, such as snapshot rebuilds
+     * that replay the change events received while they run.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = pinToPrimary();
+        try {
+            return work.get();
+        } finally {
+            restorePin(previous);
+        }
+    }
+
+    public static void runOnPrimary(Runnable work) {
+        onPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    static Boolean pinToPrimary() {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void restorePin(Boolean previous) {
+        if (previous == null) {
+            PRIMARY_ONLY.remove();
+        } else {
+            PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    /** Lookup key of the pool the current unit of work should use. */
+    public String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            routedWrite.increment();
+            return PRIMARY;
+        }
+        if (PRIMARY_ONLY.get() != null) {
+            routedPinned.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                routedReplica.increment();
+                return replica.name;
+            }
+        }
+        routedFallback.increment();
+        return PRIMARY;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> targets() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+
+    @Scheduled(fixedDelayString = "${employee.datasource.replicas.lag-check-interval-ms}",
+            initialDelayString = "${employee.datasource.replicas.lag-check-interval-ms}")
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(Replica replica) {
+        boolean healthy;
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (lagQuery == null) {
+                replica.lagSeconds = 0;
+                healthy = connection.isValid(1);
+            } else {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    // NULL means the replica has replayed nothing yet since startup, i.e. it is not behind
+                    double lag = rs.next() && rs.getObject(1) != null ? rs.getDouble(1) : 0;
+                    replica.lagSeconds = lag;
+                    healthy = lag <= maxLagSeconds;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            healthy = false;
+            if (replica.healthy) {
+                log.warn("🗄️ Replica {} check failed: {}", replica.name, ex.getMessage());
+            }
+        }
+
+        if (healthy != replica.healthy) {
+            if (healthy) {
+                log.info("🗄️ Replica {} is serving reads (lag {}s)", replica.name, replica.lagSeconds);
+            } else {
+                log.warn("🗄️ Replica {} taken out of rotation (lag {}s, limit {}s)",
+                        replica.name, replica.lagSeconds, maxLagSeconds);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : targets().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // Out of rotation until the first check has seen it
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employeeapi.search;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.event.RebuildableView;
+import com.example.employeeapi.event.SnapshotReader;
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeSearchHit;
+import com.example.employeeapi.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * In-process search index behind /api/employees/search. Built by streaming the table once at startup,
+ * kept current from {@link EmployeeChangedEvent}s and periodically rebuilt to correct drift, the same
+ * {@link RebuildableView} lifecycle as {@link com.example.employeeapi.service.EmployeeStatsEngine}.
+ */
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final RebuildableView<InvertedIndex> view;
+    private volatile InvertedIndex index;
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository, EntityManager entityManager,
+                               SnapshotReader snapshotReader) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.view = new RebuildableView<>("Employee search index", snapshotReader, this::load,
+                EmployeeSearchIndex::apply, built -> index = built);
+    }
+
+    public List<EmployeeSearchHit> search(String query, int limit) {
+        InvertedIndex current = index;
+        if (current == null) {
+            // Builds the index, or waits for the build already running
+            current = view.read(built -> built);
+        }
+        return current.search(query, limit).stream()
+                .map(hit -> new EmployeeSearchHit(hit.id(), hit.name(), hit.position(), hit.department(), hit.email(), hit.score()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.search.reconcile-interval-ms:3600000}",
+            initialDelayString = "${employee.search.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        view.onEmployeeChanged(event);
+    }
+
+    public void rebuild() {
+        view.rebuild();
+        log.info("🔎 Employee search index rebuilt: {} employees", index.size());
+    }
+
+    // Runs inside the rebuild's read-only snapshot transaction
+    private InvertedIndex load() {
+        InvertedIndex fresh = new InvertedIndex();
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderById()) {
+            employees.forEach(employee -> {
+                fresh.put(employee.getId(), employee.getName(), employee.getPosition(),
+                        employee.getDepartment(), employee.getEmail());
+                entityManager.detach(employee);
+            });
+        }
+        return fresh;
+    }
+
+    private static void apply(InvertedIndex index, EmployeeChangedEvent event) {
+        EmployeeResponse current = event.current();
+        if (current == null) {
+            index.remove(event.id());
+        } else {
+            index.put(current.getId(), current.getName(), current.getPosition(), current.getDepartment(), current.getEmail());
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.example.employeeapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Token index over the searchable employee fields. A sorted token dictionary answers exact, prefix and
+ * fuzzy (small edit distance) lookups, a trigram-to-token map answers infix lookups; both lead to
+ * compact postings of employee ids. Work per query is capped ({@link #MAX_TOKENS_PER_TERM},
+ * {@link #MAX_CANDIDATES}) so very common prefixes stay cheap.
+ * <p>
+ * Thread-safe: searches share a read lock, writes take the write lock for a handful of postings.
+ */
+final class InvertedIndex {
+
+    static final int MAX_TOKENS_PER_TERM = 256;
+    static final int MAX_CANDIDATES = 1000;
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final int FUZZY_PREFIX_LENGTH = 2;
+    private static final int MAX_FUZZY_SCAN = 10_000;
+
+    enum Field {
+        NAME(4), EMAIL(3), POSITION(2), DEPARTMENT(1);
+
+        final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    enum MatchKind {
+        EXACT(1.0), PREFIX(0.7), INFIX(0.4), FUZZY(0.3);
+
+        final double weight;
+
+        MatchKind(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    record Hit(long id, String name, String position, String department, String email, double score) {
+    }
+
+    // tokens[field.ordinal()] holds the distinct tokens of that field
+    private record Doc(long id, String name, String position, String department, String email, String[][] tokens) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+
+    /** Adds the employee, replacing whatever was indexed under the same id. */
+    void put(long id, String name, String position, String department, String email) {
+        String[][] tokens = new String[Field.values().length][];
+        tokens[Field.NAME.ordinal()] = tokenize(name);
+        tokens[Field.EMAIL.ordinal()] = tokenize(email);
+        tokens[Field.POSITION.ordinal()] = tokenize(position);
+        tokens[Field.DEPARTMENT.ordinal()] = tokenize(department);
+        Doc doc = new Doc(id, name, position, department, email, tokens);
+
+        lock.writeLock().lock();
+        try {
+            Doc previous = docs.put(id, doc);
+            if (previous != null) {
+                distinctTokens(previous).forEach(token -> unpost(token, id));
+            }
+            distinctTokens(doc).forEach(token -> post(token, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Doc previous = docs.remove(id);
+            if (previous != null) {
+                distinctTokens(previous).forEach(token -> unpost(token, id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every query term has to match some field, as a whole token, prefix, infix or within a small edit
+     * distance. Hits are ranked by field weight times match quality, summed over the terms.
+     */
+    List<Hit> search(String query, int limit) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<String, Double>> termMatches = new ArrayList<>(terms.length);
+            int mostSelective = 0;
+            long fewestPostings = Long.MAX_VALUE;
+            for (int i = 0; i < terms.length; i++) {
+                Map<String, Double> matches = matchTokens(terms[i]);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                long postings = 0;
+                for (String token : matches.keySet()) {
+                    postings += dictionary.get(token).size;
+                }
+                if (postings < fewestPostings) {
+                    fewestPostings = postings;
+                    mostSelective = i;
+                }
+                termMatches.add(matches);
+            }
+
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                    .thenComparing(Hit::name, Comparator.reverseOrder())
+                    .thenComparing(Hit::id, Comparator.reverseOrder());
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking);
+            for (long id : candidates(termMatches.get(mostSelective))) {
+                Doc doc = docs.get(id);
+                double score = score(doc, termMatches);
+                // Most candidates lose to a full heap; skip building a Hit for them
+                if (score > 0 && (top.size() < limit || score >= top.peek().score())) {
+                    top.add(new Hit(doc.id(), doc.name(), doc.position(), doc.department(), doc.email(), score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(ranking.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Matching tokens with their quality: the kind's weight, scaled by how much of the token the term covers
+    private Map<String, Double> matchTokens(String term) {
+        Map<String, Double> matches = new HashMap<>();
+        for (String token : dictionary.subMap(term, true, term + Character.MAX_VALUE, false).keySet()) {
+            matches.put(token, token.length() == term.length()
+                    ? MatchKind.EXACT.weight
+                    : MatchKind.PREFIX.weight * term.length() / token.length());
+            if (matches.size() >= MAX_TOKENS_PER_TERM) {
+                return matches;
+            }
+        }
+
+        List<String> grams = trigramsOf(term);
+        if (grams.isEmpty()) {
+            return matches;
+        }
+        // Tokens containing every trigram of the term, then confirmed with contains()
+        Set<String> smallest = null;
+        for (String gram : grams) {
+            Set<String> tokens = trigrams.get(gram);
+            if (tokens == null) {
+                smallest = null;
+                break;
+            }
+            if (smallest == null || tokens.size() < smallest.size()) {
+                smallest = tokens;
+            }
+        }
+        if (smallest != null) {
+            for (String token : smallest) {
+                if (!matches.containsKey(token) && token.contains(term)) {
+                    matches.put(token, MatchKind.INFIX.weight * term.length() / token.length());
+                    if (matches.size() >= MAX_TOKENS_PER_TERM) {
+                        return matches;
+                    }
+                }
+            }
+        }
+
+        if (matches.isEmpty() && term.length() >= FUZZY_MIN_LENGTH) {
+            addFuzzyMatches(term, matches);
+        }
+        return matches;
+    }
+
+    // Like a fuzzy query with a fixed prefix: typos are rarely in the first two characters, and keeping those
+    // exact limits the scan to one small slice of the dictionary
+    private void addFuzzyMatches(String term, Map<String, Double> matches) {
+        int maxEdits = term.length() <= 5 ? 1 : 2;
+        String prefix = term.substring(0, FUZZY_PREFIX_LENGTH);
+        int scanned = 0;
+        for (String token : dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+            if (++scanned > MAX_FUZZY_SCAN) {
+                return;
+            }
+            if (Math.abs(token.length() - term.length()) <= maxEdits && editDistance(term, token, maxEdits) <= maxEdits) {
+                matches.put(token, MatchKind.FUZZY.weight);
+                if (matches.size() >= MAX_TOKENS_PER_TERM) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Best matches first, so the cap drops the weakest candidates
+    private Set<Long> candidates(Map<String, Double> matches) {
+        List<Map.Entry<String, Double>> tokens = new ArrayList<>(matches.entrySet());
+        tokens.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Map.Entry<String, Double> token : tokens) {
+            Postings postings = dictionary.get(token.getKey());
+            for (int i = 0; i < postings.size; i++) {
+                candidates.add(postings.ids[i]);
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static double score(Doc doc, List<Map<String, Double>> termMatches) {
+        double score = 0;
+        for (Map<String, Double> matches : termMatches) {
+            double best = 0;
+            for (Field field : Field.values()) {
+                for (String token : doc.tokens()[field.ordinal()]) {
+                    Double quality = matches.get(token);
+                    if (quality != null) {
+                        best = Math.max(best, field.weight * quality);
+                    }
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private void post(String token, long id) {
+        Postings postings = dictionary.get(token);
+        if (postings == null) {
+            postings = new Postings();
+            dictionary.put(token, postings);
+            for (String gram : trigramsOf(token)) {
+                trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(token);
+            }
+        }
+        postings.add(id);
+    }
+
+    private void unpost(String token, long id) {
+        Postings postings = dictionary.get(token);
+        if (postings == null || !postings.remove(id) || postings.size > 0) {
+            return;
+        }
+        dictionary.remove(token);
+        for (String gram : trigramsOf(token)) {
+            Set<String> tokens = trigrams.get(gram);
+            if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                trigrams.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> distinctTokens(Doc doc) {
+        Set<String> tokens = new HashSet<>();
+        for (String[] fieldTokens : doc.tokens()) {
+            tokens.addAll(Arrays.asList(fieldTokens));
+        }
+        return tokens;
+    }
+
+    // Lower-cased runs of letters and digits; "j.smith@example.com" gives j, smith, example, com
+    static String[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static List<String> trigramsOf(String token) {
+        if (token.length() < 3) {
+            return List.of();
+        }
+        List<String> grams = new ArrayList<>(token.length() - 2);
+        for (int i = 0; i + 3 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    // Levenshtein distance, giving up as soon as it is certain to exceed max
+    static int editDistance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    // Unordered ids in a growable primitive array: ~8 bytes per posting instead of a boxed set entry
+    private static final class Postings {
+        long[] ids = new long[2];
+        int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
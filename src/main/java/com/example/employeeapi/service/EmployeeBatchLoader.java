@@ -0,0 +1,168 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.repository.EmployeeRepository;
+import com.example.employeeapi.routing.ReplicaRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent single-employee lookups. The first lookup in a window opens a batch; lookups
+ * arriving within {@code window} join it (the same id twice shares one future), and the batch is loaded
+ * with one {@code findAllById} when the window closes or {@code max-batch-size} ids are waiting.
+ * <p>
+ * Only batches that have not been dispatched yet can be joined: a lookup arriving while its id's
+ * query is already running starts a new batch, so a caller never gets a row read before it asked.
+ * Batches read the primary, like every other employee cache fill.
+ */
+@Slf4j
+@Component
+public class EmployeeBatchLoader {
+
+    private final EmployeeRepository employeeRepository;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Map<Long, CompletableFuture<Optional<Employee>>> waiting = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private List<Long> open;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("employee-batch-loader-timer").daemon().factory());
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter requests;
+    private final Counter coalesced;
+    private final Counter queries;
+    private final DistributionSummary batchSize;
+
+    public EmployeeBatchLoader(EmployeeRepository employeeRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${employee.batch-loader.enabled}") boolean enabled,
+                               @Value("${employee.batch-loader.window}") Duration window,
+                               @Value("${employee.batch-loader.max-batch-size}") int maxBatchSize) {
+        this.employeeRepository = employeeRepository;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+
+        this.requests = Counter.builder("employee.batch-loader.requests")
+                .description("Single-employee lookups that reached the loader (cache misses)")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("employee.batch-loader.coalesced")
+                .description("Lookups that joined a waiting lookup of the same id")
+                .register(meterRegistry);
+        this.queries = Counter.builder("employee.batch-loader.queries")
+                .description("Queries issued by the loader")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("employee.batch-loader.batch.size")
+                .description("Distinct ids per loader query")
+                .register(meterRegistry);
+        Gauge.builder("employee.batch-loader.coalescing.ratio", this,
+                        loader -> loader.queries.count() == 0 ? 0 : loader.requests.count() / loader.queries.count())
+                .description("Lookups served per query since startup")
+                .register(meterRegistry);
+        log.info("📦 Employee batch loader {}: window {}µs, up to {} ids per query",
+                enabled ? "enabled" : "disabled", windowNanos / 1000, maxBatchSize);
+    }
+
+    public Optional<Employee> load(Long id) {
+        requests.increment();
+        if (!enabled) {
+            queries.increment();
+            batchSize.record(1);
+            return ReplicaRouter.onPrimary(() -> employeeRepository.findById(id));
+        }
+        CompletableFuture<Optional<Employee>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<Employee>> result;
+        synchronized (lock) {
+            CompletableFuture<Optional<Employee>> existing = waiting.putIfAbsent(id, created);
+            if (existing != null) {
+                coalesced.increment();
+                result = existing;
+            } else {
+                result = created;
+                enqueue(id);
+            }
+        }
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Called with the lock held
+    private void enqueue(Long id) {
+        if (open == null) {
+            List<Long> batch = new ArrayList<>();
+            open = batch;
+            timer.schedule(() -> dispatchIfOpen(batch), windowNanos, TimeUnit.NANOSECONDS);
+        }
+        open.add(id);
+        if (open.size() >= maxBatchSize) {
+            dispatch(open);
+        }
+    }
+
+    private void dispatchIfOpen(List<Long> batch) {
+        synchronized (lock) {
+            if (open == batch) {
+                dispatch(batch);
+            }
+        }
+    }
+
+    // Called with the lock held: closes the batch so later lookups start a new one
+    private void dispatch(List<Long> batch) {
+        open = null;
+        Map<Long, CompletableFuture<Optional<Employee>>> futures = new HashMap<>(batch.size() * 2);
+        for (Long id : batch) {
+            futures.put(id, waiting.remove(id));
+        }
+        loaders.execute(() -> load(futures));
+    }
+
+    private void load(Map<Long, CompletableFuture<Optional<Employee>>> futures) {
+        queries.increment();
+        batchSize.record(futures.size());
+        try {
+            Map<Long, Employee> found = new HashMap<>(futures.size() * 2);
+            ReplicaRouter.onPrimary(() -> employeeRepository.findAllById(futures.keySet()))
+                    .forEach(employee -> found.put(employee.getId(), employee));
+            futures.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException ex) {
+            futures.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        loaders.shutdown();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.employeeapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor. Clients pass back whatever they were given in {@code nextCursor};
+ * internally it is the last id of the previous page. Delta sync tokens use the same encoding
+ * over a {@link ChangeToken}, with their own prefix so the two cannot be mixed up.
+ */
+public final class EmployeeCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String CHANGE_PREFIX = "seq:";
+    private static final String SEPARATOR = ":";
+
+    private EmployeeCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return encode(PREFIX, lastId);
+    }
+
+    public static long decode(String cursor) {
+        return decode(PREFIX, cursor, "cursor");
+    }
+
+    public static String encodeChangeToken(ChangeToken token) {
+        return encode(CHANGE_PREFIX, token.changeSeq() + SEPARATOR + token.purgedAtStart());
+    }
+
+    /** A blank token starts a full sync, before any deletion the client could have missed. */
+    public static ChangeToken decodeChangeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return new ChangeToken(0L, Long.MAX_VALUE);
+        }
+        String raw = decodeRaw(CHANGE_PREFIX, token, "changedSince token");
+        int separator = raw.indexOf(SEPARATOR);
+        try {
+            // Tokens issued before tombstones were purged carry only the change_seq
+            return separator < 0
+                    ? new ChangeToken(Long.parseLong(raw), 0L)
+                    : new ChangeToken(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid changedSince token: " + token);
+        }
+    }
+
+    private static String encode(String prefix, Object value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decode(String prefix, String cursor, String what) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decodeRaw(prefix, cursor, what));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + what + ": " + cursor);
+        }
+    }
+
+    private static String decodeRaw(String prefix, String cursor, String what) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (raw.startsWith(prefix)) {
+                return raw.substring(prefix.length());
+            }
+        } catch (IllegalArgumentException ex) {
+            // Not Base64; reported below
+        }
+        throw new IllegalArgumentException("Invalid " + what + ": " + cursor);
+    }
+
+    /**
+     * Position in the change stream: the last change_seq seen, and the tombstone purge horizon when the
+     * client's full sync started. Deletions at or below that horizon happened before the client held any
+     * row, so purging them cannot leave it with a stale one.
+     */
+    public record ChangeToken(long changeSeq, long purgedAtStart) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.EmployeeResponse;
+
+/**
+ * Conversions between the entity and the API models. Stateless and on every read path, so it is
+ * kept as plain static methods (and benchmarked on its own).
+ */
+public final class EmployeeMapper {
+
+    private EmployeeMapper() {
+    }
+
+    public static EmployeeResponse toResponse(Employee employee) {
+        return new EmployeeResponse(
+                employee.getId(),
+                employee.getName(),
+                employee.getPosition(),
+                employee.getDepartment(),
+                employee.getSalary(),
+                employee.getEmail(),
+                employee.getPhone(),
+                employee.getHireDate(),
+                employee.getCreatedAt(),
+                employee.getUpdatedAt(),
+                employee.getVersion()
+        );
+    }
+
+    public static Employee toEntity(EmployeeRequest employeeRequest) {
+        Employee employee = new Employee();
+        apply(employee, employeeRequest);
+        return employee;
+    }
+
+    // Copies every client-writable field; id, version and audit dates are left alone
+    public static void apply(Employee employee, EmployeeRequest employeeRequest) {
+        employee.setName(employeeRequest.getName());
+        employee.setPosition(employeeRequest.getPosition());
+        employee.setDepartment(employeeRequest.getDepartment());
+        employee.setSalary(employeeRequest.getSalary());
+        employee.setEmail(employeeRequest.getEmail());
+        employee.setPhone(employeeRequest.getPhone());
+        employee.setHireDate(employeeRequest.getHireDate());
+    }
+}
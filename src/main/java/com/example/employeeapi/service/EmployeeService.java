@@ -1,20 +1,39 @@
 package com.example.employeeapi.service;
 
+import com.example.employeeapi.model.BulkOperationResponse;
+import com.example.employeeapi.model.EmployeeBatchResponse;
+import com.example.employeeapi.model.EmployeeBulkUpdateItem;
+import com.example.employeeapi.model.EmployeePageResponse;
 import com.example.employeeapi.model.EmployeeRequest;
 import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeSearchResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.model.EmployeeSyncResponse;
+import com.example.employeeapi.model.SalaryAnalyticsResponse;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
-    List<EmployeeResponse> getAllEmployees();
+    EmployeePageResponse getAllEmployees(String cursor, int limit);
+    EmployeeSyncResponse getChangesSince(String token, int limit);
+    void streamAllEmployees(Consumer<EmployeeResponse> consumer);
     EmployeeResponse getEmployeeById(Long id);
+    EmployeeBatchResponse getEmployeesByIds(List<Long> ids);
     EmployeeResponse createEmployee(EmployeeRequest employeeRequest);
-    EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest);
+    EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest, Long expectedVersion);
     void deleteEmployee(Long id);
-    List<EmployeeResponse> getEmployeesByDepartment(String department);
+    BulkOperationResponse bulkCreateEmployees(List<EmployeeRequest> employeeRequests);
+    BulkOperationResponse importEmployees(List<EmployeeRequest> validatedRequests);
+    BulkOperationResponse bulkUpdateEmployees(List<EmployeeBulkUpdateItem> items);
+    BulkOperationResponse bulkDeleteEmployees(List<Long> ids);
+    EmployeePageResponse getEmployeesByDepartment(String department, String cursor, int limit);
+    EmployeeSearchResponse searchEmployees(String query, int limit);
     Long getTotalEmployees();
     Double getAverageSalary();
     BigDecimal getHighestSalary();
     Integer getDepartmentCount();
-}
\ No newline at end of file
+    EmployeeStatsResponse getStatsSummary();
+    SalaryAnalyticsResponse getSalaryAnalytics(String department, int buckets);
+}
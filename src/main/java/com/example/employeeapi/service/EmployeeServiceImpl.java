@@ -1,132 +1,606 @@
 package com.example.employeeapi.service;
 
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.exception.ConflictException;
+import com.example.employeeapi.exception.NotFoundException;
+import com.example.employeeapi.exception.ResyncRequiredException;
+import com.example.employeeapi.exception.VersionMismatchException;
+import com.example.employeeapi.model.BulkItemResult;
+import com.example.employeeapi.model.BulkOperationResponse;
 import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeBatchResponse;
+import com.example.employeeapi.model.EmployeeBulkUpdateItem;
+import com.example.employeeapi.model.EmployeePageResponse;
 import com.example.employeeapi.model.EmployeeRequest;
 import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeSearchResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.model.EmployeeSyncResponse;
+import com.example.employeeapi.model.EmployeeTombstone;
+import com.example.employeeapi.model.SalaryAnalyticsResponse;
+import com.example.employeeapi.model.SalaryBreakdown;
+import com.example.employeeapi.model.SalaryHistogramBucket;
 import com.example.employeeapi.repository.EmployeeRepository;
+import com.example.employeeapi.repository.EmployeeTombstoneRepository;
+import com.example.employeeapi.repository.EmployeeWriteRepository;
+import com.example.employeeapi.routing.DepartmentReadGuard;
+import com.example.employeeapi.routing.ReplicaRouter;
+import com.example.employeeapi.search.EmployeeSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_HISTOGRAM_BUCKETS = 200;
+    // Keeps IN (...) lists well below the PostgreSQL bind parameter limit
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    // An email taken by a concurrent write after the owner check aborts the whole transaction: PostgreSQL
+    // accepts no further statements in it, so there is no per-item result to report
+    private static final String BULK_EMAIL_RACE =
+            "An email in this batch was taken by a concurrent request; nothing was written, retry the whole batch";
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeTombstoneRepository tombstoneRepository;
+    private final TombstoneRetention tombstoneRetention;
+    private final EntityManager entityManager;
+    private final EmployeeStatsEngine statsEngine;
+    private final EmployeeSearchIndex searchIndex;
+    private final SalaryAnalytics salaryAnalytics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final EmployeeBatchLoader batchLoader;
+    private final CacheManager cacheManager;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final DepartmentReadGuard departmentReadGuard;
+
+    @Value("${employee.bulk.max-items}")
+    private int bulkMaxItems;
+
+    @Value("${employee.batch.max-ids}")
+    private int batchMaxIds;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Value("${employee.sync.settle-window}")
+    private Duration syncSettleWindow;
 
     @Override
-    public List<EmployeeResponse> getAllEmployees() {
-        return employeeRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public EmployeePageResponse getAllEmployees(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        // Fetch one extra row to know whether another page exists without a count query
+        List<Employee> rows = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                EmployeeCursor.decode(cursor), Limit.of(pageSize + 1));
+        return toPage(rows, pageSize);
     }
 
     @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EmployeeSyncResponse getChangesSince(String token, int limit) {
+        EmployeeCursor.ChangeToken position = EmployeeCursor.decodeChangeToken(token);
+        long since = position.changeSeq();
+        // Read in this transaction's snapshot, so it matches the tombstones read below
+        long purgedThrough = tombstoneRetention.purgedThrough();
+        long purgedAtStart = Math.min(position.purgedAtStart(), purgedThrough);
+        if (purgedThrough > Math.max(since, purgedAtStart)) {
+            throw new ResyncRequiredException("Full resync required: deletions after this changedSince token have been purged;"
+                    + " start again with changedSince= (empty)");
+        }
+        int pageSize = pageSize(limit);
+        // Both sides share one sequence; fetch a page of each and merge, one extra to detect more
+        List<Employee> changed = employeeRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, Limit.of(pageSize + 1));
+        List<EmployeeTombstone> deleted = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, Limit.of(pageSize + 1));
+
+        // A change_seq is taken before commit, so a lower one can still appear after a higher one is
+        // visible. The token only moves past changes older than the settle window; newer ones are sent
+        // now and again on the next call (clients apply them idempotently).
+        Instant settled = Instant.now().minus(syncSettleWindow);
+        List<EmployeeResponse> changedItems = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        long next = since;
+        boolean settling = true;
+        int c = 0;
+        int d = 0;
+        while (changedItems.size() + deletedIds.size() < pageSize && (c < changed.size() || d < deleted.size())) {
+            boolean takeChanged = d >= deleted.size()
+                    || (c < changed.size() && changed.get(c).getChangeSeq() < deleted.get(d).getChangeSeq());
+            long seq;
+            Instant changedAt;
+            if (takeChanged) {
+                Employee employee = changed.get(c++);
+                changedItems.add(EmployeeMapper.toResponse(employee));
+                seq = employee.getChangeSeq();
+                changedAt = employee.getChangedAt();
+            } else {
+                EmployeeTombstone tombstone = deleted.get(d++);
+                deletedIds.add(tombstone.getEmployeeId());
+                seq = tombstone.getChangeSeq();
+                changedAt = tombstone.getChangedAt();
+            }
+            settling &= changedAt.isBefore(settled);
+            if (settling) {
+                next = seq;
+            }
+        }
+        boolean hasMore = settling && (c < changed.size() || d < deleted.size());
+        String nextToken = EmployeeCursor.encodeChangeToken(new EmployeeCursor.ChangeToken(next, purgedAtStart));
+        return new EmployeeSyncResponse(changedItems, deletedIds, nextToken, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderById()) {
+            employees.forEach(employee -> {
+                consumer.accept(EmployeeMapper.toResponse(employee));
+                // Keep the persistence context empty so memory stays flat
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    @Override
+    @Cacheable(cacheNames = EmployeeCacheInvalidator.EMPLOYEES_CACHE, key = "#id")
     public EmployeeResponse getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
-        return mapToResponse(employee);
+        // Concurrent misses are coalesced into one IN (...) query; like all cache fills it reads the primary
+        Employee employee = batchLoader.load(id)
+                .orElseThrow(() -> NotFoundException.employee(id));
+        return EmployeeMapper.toResponse(employee);
+    }
+
+    @Override
+    public EmployeeBatchResponse getEmployeesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > batchMaxIds) {
+            throw new IllegalArgumentException("At most " + batchMaxIds + " ids can be fetched at once");
+        }
+        // Served from the employee cache where possible; the misses are loaded with one query per chunk
+        Cache cache = cacheManager.getCache(EmployeeCacheInvalidator.EMPLOYEES_CACHE);
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Map<Long, EmployeeResponse> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinct) {
+            EmployeeResponse cached = cache == null ? null : cache.get(id, EmployeeResponse.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(misses.size(), from + LOOKUP_CHUNK_SIZE));
+            long evictionsBeforeLoad = cacheInvalidator.employeeEvictions();
+            for (Employee employee : ReplicaRouter.onPrimary(() -> employeeRepository.findAllById(chunk))) {
+                EmployeeResponse response = EmployeeMapper.toResponse(employee);
+                found.put(employee.getId(), response);
+                if (cache != null) {
+                    // Not a plain put: an update committing during the query evicts after commit, and must win
+                    cacheInvalidator.putIfNotEvicted(cache, employee.getId(), response, evictionsBeforeLoad);
+                }
+            }
+        }
+
+        List<EmployeeResponse> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            EmployeeResponse response = found.get(id);
+            if (response != null) {
+                items.add(response);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new EmployeeBatchResponse(items, missing);
     }
 
     @Override
+    @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest employeeRequest) {
-        // Check if email already exists
-        if (employeeRepository.existsByEmail(employeeRequest.getEmail())) {
-            throw new RuntimeException("Employee with email " + employeeRequest.getEmail() + " already exists");
+        // One INSERT; the unique constraint on email is the real guard and a duplicate surfaces as a 409
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(EmployeeMapper.toEntity(employeeRequest));
+        } catch (DataIntegrityViolationException ex) {
+            throw ConflictException.fromIntegrityViolation(ex);
         }
+        EmployeeResponse response = EmployeeMapper.toResponse(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(response));
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest, Long expectedVersion) {
+        // One UPDATE ... RETURNING with both the old and the new row; email conflicts surface as a 409
+        EmployeeWriteRepository.RowChange change;
+        try {
+            change = employeeRepository
+                    .updateReturning(id, EmployeeMapper.toEntity(employeeRequest), expectedVersion)
+                    .orElseThrow(() -> updateMissed(id, expectedVersion));
+        } catch (DataIntegrityViolationException ex) {
+            throw ConflictException.fromIntegrityViolation(ex);
+        }
+        EmployeeResponse response = EmployeeMapper.toResponse(change.current());
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(EmployeeMapper.toResponse(change.previous()), response));
+        return response;
+    }
+
+    // Only runs when nothing was updated: tell a stale version apart from a missing employee
+    private RuntimeException updateMissed(Long id, Long expectedVersion) {
+        Employee current = expectedVersion == null ? null : employeeRepository.findById(id).orElse(null);
+        if (current == null) {
+            return NotFoundException.employee(id);
+        }
+        long currentVersion = current.getVersion() == null ? 0 : current.getVersion();
+        return new VersionMismatchException("Employee " + id + " has been modified (current version "
+                + currentVersion + ", expected " + expectedVersion + ")", currentVersion);
+    }
 
-        Employee employee = mapToEntity(employeeRequest);
-        Employee savedEmployee = employeeRepository.save(employee);
-        return mapToResponse(savedEmployee);
+    @Override
+    @Transactional
+    public void deleteEmployee(Long id) {
+        Employee employee = employeeRepository.deleteReturning(id)
+                .orElseThrow(() -> NotFoundException.employee(id));
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeMapper.toResponse(employee)));
     }
 
     @Override
-    public EmployeeResponse updateEmployee(Long id, EmployeeRequest employeeRequest) {
-        Employee existingEmployee = employeeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+    @Transactional
+    public BulkOperationResponse bulkCreateEmployees(List<EmployeeRequest> employeeRequests) {
+        checkBulkSize(employeeRequests);
+        BulkItemResult[] results = new BulkItemResult[employeeRequests.size()];
+
+        // Validate everything first, including duplicates inside the batch itself
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < employeeRequests.size(); i++) {
+            EmployeeRequest request = employeeRequests.get(i);
+            Map<String, String> errors = validate(request);
+            if (errors != null) {
+                results[i] = BulkItemResult.invalid(i, null, errors);
+            } else if (candidates.putIfAbsent(request.getEmail(), i) != null) {
+                results[i] = BulkItemResult.failure(i, null, "Duplicate email " + request.getEmail() + " in request");
+            }
+        }
 
-        // Check if email is taken by another employee
-        if (employeeRepository.existsByEmailAndIdNot(employeeRequest.getEmail(), id)) {
-            throw new RuntimeException("Employee with email " + employeeRequest.getEmail() + " already exists");
+        try {
+            insertNew(employeeRequests, candidates, results);
+        } catch (DataIntegrityViolationException ex) {
+            throw ConflictException.fromIntegrityViolation(ex, BULK_EMAIL_RACE);
         }
+        return BulkOperationResponse.of(List.of(results));
+    }
 
-        // Update employee fields
-        existingEmployee.setName(employeeRequest.getName());
-        existingEmployee.setPosition(employeeRequest.getPosition());
-        existingEmployee.setDepartment(employeeRequest.getDepartment());
-        existingEmployee.setSalary(employeeRequest.getSalary());
-        existingEmployee.setEmail(employeeRequest.getEmail());
-        existingEmployee.setPhone(employeeRequest.getPhone());
-        existingEmployee.setHireDate(employeeRequest.getHireDate());
+    // Import chunks were validated and de-duplicated by the caller; only existing emails remain to check
+    @Override
+    @Transactional
+    public BulkOperationResponse importEmployees(List<EmployeeRequest> validatedRequests) {
+        BulkItemResult[] results = new BulkItemResult[validatedRequests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < validatedRequests.size(); i++) {
+            candidates.put(validatedRequests.get(i).getEmail(), i);
+        }
+        insertNew(validatedRequests, candidates, results);
+        return BulkOperationResponse.of(List.of(results));
+    }
 
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
-        return mapToResponse(updatedEmployee);
+    // Inserts the candidates (email -> index into requests) whose email is not taken yet, in JDBC batches
+    private void insertNew(List<EmployeeRequest> employeeRequests, Map<String, Integer> candidates,
+                           BulkItemResult[] results) {
+        Map<String, Long> emailOwners = findEmailOwners(candidates.keySet());
+        int pending = 0;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (emailOwners.containsKey(candidate.getKey())) {
+                results[index] = BulkItemResult.failure(index, null,
+                        "Employee with email " + candidate.getKey() + " already exists");
+                continue;
+            }
+            Employee saved = employeeRepository.save(EmployeeMapper.toEntity(employeeRequests.get(index)));
+            results[index] = BulkItemResult.success(index, saved.getId(), BulkItemResult.Status.CREATED);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeMapper.toResponse(saved)));
+            if (++pending % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
     }
 
     @Override
-    public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new RuntimeException("Employee not found with id: " + id);
+    @Transactional
+    public BulkOperationResponse bulkUpdateEmployees(List<EmployeeBulkUpdateItem> items) {
+        checkBulkSize(items);
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+
+        Set<Long> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            EmployeeBulkUpdateItem item = items.get(i);
+            Map<String, String> errors = validate(item);
+            if (errors != null) {
+                results[i] = BulkItemResult.invalid(i, item == null ? null : item.getId(), errors);
+            } else if (!seenIds.add(item.getId())) {
+                results[i] = BulkItemResult.failure(i, item.getId(), "Duplicate id " + item.getId() + " in request");
+            } else if (!seenEmails.add(item.getEmployee().getEmail())) {
+                results[i] = BulkItemResult.failure(i, item.getId(),
+                        "Duplicate email " + item.getEmployee().getEmail() + " in request");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Map<String, Long> emailOwners = findEmailOwners(seenEmails);
+        try {
+            updateExisting(items, candidates, emailOwners, results);
+        } catch (DataIntegrityViolationException ex) {
+            throw ConflictException.fromIntegrityViolation(ex, BULK_EMAIL_RACE);
+        }
+        return BulkOperationResponse.of(List.of(results));
+    }
+
+    // Applies the candidates (indexes into items) in chunks of batchSize; a @Version conflict fails the whole batch
+    private void updateExisting(List<EmployeeBulkUpdateItem> items, List<Integer> candidates,
+                                Map<String, Long> emailOwners, BulkItemResult[] results) {
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Integer> chunk = candidates.subList(from, Math.min(candidates.size(), from + batchSize));
+            Map<Long, Employee> existing = new HashMap<>();
+            employeeRepository.findAllById(chunk.stream().map(i -> items.get(i).getId()).toList())
+                    .forEach(employee -> existing.put(employee.getId(), employee));
+
+            Map<Integer, EmployeeResponse> previous = new LinkedHashMap<>();
+            for (int index : chunk) {
+                EmployeeBulkUpdateItem item = items.get(index);
+                Employee employee = existing.get(item.getId());
+                Long owner = emailOwners.get(item.getEmployee().getEmail());
+                if (employee == null) {
+                    results[index] = BulkItemResult.failure(index, item.getId(), "Employee not found with id: " + item.getId());
+                } else if (owner != null && !owner.equals(item.getId())) {
+                    results[index] = BulkItemResult.failure(index, item.getId(),
+                            "Employee with email " + item.getEmployee().getEmail() + " already exists");
+                } else {
+                    previous.put(index, EmployeeMapper.toResponse(employee));
+                    EmployeeMapper.apply(employee, item.getEmployee());
+                }
+            }
+
+            // Flush before mapping so responses carry the @PreUpdate timestamps; through the repository so
+            // constraint and @Version failures arrive translated (DataIntegrityViolation, OptimisticLockingFailure)
+            employeeRepository.flush();
+            previous.forEach((index, before) -> {
+                Employee employee = existing.get(items.get(index).getId());
+                results[index] = BulkItemResult.success(index, employee.getId(), BulkItemResult.Status.UPDATED);
+                eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeMapper.toResponse(employee)));
+            });
+            entityManager.clear();
         }
-        employeeRepository.deleteById(id);
     }
 
     @Override
-    public List<EmployeeResponse> getEmployeesByDepartment(String department) {
-        return employeeRepository.findByDepartment(department)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Transactional
+    public BulkOperationResponse bulkDeleteEmployees(List<Long> ids) {
+        checkBulkSize(ids);
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+
+        Set<Long> seenIds = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = BulkItemResult.failure(i, null, "ID is required");
+            } else if (!seenIds.add(id)) {
+                results[i] = BulkItemResult.failure(i, id, "Duplicate id " + id + " in request");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        for (int from = 0; from < candidates.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Integer> chunk = candidates.subList(from, Math.min(candidates.size(), from + LOOKUP_CHUNK_SIZE));
+            Map<Long, Employee> existing = new HashMap<>();
+            employeeRepository.findAllById(chunk.stream().map(ids::get).toList())
+                    .forEach(employee -> existing.put(employee.getId(), employee));
+
+            // One DELETE ... WHERE id IN (...) per chunk
+            employeeRepository.deleteAllInBatch(existing.values());
+            for (int index : chunk) {
+                Employee employee = existing.get(ids.get(index));
+                if (employee == null) {
+                    results[index] = BulkItemResult.failure(index, ids.get(index), "Employee not found with id: " + ids.get(index));
+                } else {
+                    results[index] = BulkItemResult.success(index, employee.getId(), BulkItemResult.Status.DELETED);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeMapper.toResponse(employee)));
+                }
+            }
+            entityManager.clear();
+        }
+        return BulkOperationResponse.of(List.of(results));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = EmployeeCacheInvalidator.DEPARTMENTS_CACHE, keyGenerator = "departmentPageKeyGenerator")
+    public EmployeePageResponse getEmployeesByDepartment(String department, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        // Served by the (department, id) index on a replica, unless the department was written to within the
+        // sticky window: then a replica might still have the rows this cache fill is replacing
+        List<Employee> rows = departmentReadGuard.read(department, () -> employeeRepository.findByDepartmentAndIdGreaterThanOrderByIdAsc(
+                department, EmployeeCursor.decode(cursor), Limit.of(pageSize + 1)));
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public EmployeeSearchResponse searchEmployees(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return new EmployeeSearchResponse(query, searchIndex.search(query, maxResults), maxResults);
     }
 
     @Override
     public Long getTotalEmployees() {
-        return employeeRepository.count();
+        return statsEngine.snapshot().getTotalEmployees();
     }
 
     @Override
     public Double getAverageSalary() {
-        return employeeRepository.findAverageSalary();
+        return statsEngine.snapshot().getAverageSalary();
     }
 
     @Override
     public BigDecimal getHighestSalary() {
-        return employeeRepository.findMaxSalary();
+        return statsEngine.snapshot().getHighestSalary();
     }
 
     @Override
     public Integer getDepartmentCount() {
-        return employeeRepository.findEmployeeCountByDepartment().size();
-    }
-
-    private EmployeeResponse mapToResponse(Employee employee) {
-        return new EmployeeResponse(
-                employee.getId(),
-                employee.getName(),
-                employee.getPosition(),
-                employee.getDepartment(),
-                employee.getSalary(),
-                employee.getEmail(),
-                employee.getPhone(),
-                employee.getHireDate(),
-                employee.getCreatedAt(),
-                employee.getUpdatedAt()
-        );
-    }
-
-    private Employee mapToEntity(EmployeeRequest employeeRequest) {
-        Employee employee = new Employee();
-        employee.setName(employeeRequest.getName());
-        employee.setPosition(employeeRequest.getPosition());
-        employee.setDepartment(employeeRequest.getDepartment());
-        employee.setSalary(employeeRequest.getSalary());
-        employee.setEmail(employeeRequest.getEmail());
-        employee.setPhone(employeeRequest.getPhone());
-        employee.setHireDate(employeeRequest.getHireDate());
-        return employee;
+        return statsEngine.snapshot().getDepartmentCount();
+    }
+
+    @Override
+    public EmployeeStatsResponse getStatsSummary() {
+        return statsEngine.snapshot();
+    }
+
+    @Override
+    public SalaryAnalyticsResponse getSalaryAnalytics(String department, int buckets) {
+        int bucketCount = Math.max(1, Math.min(buckets, MAX_HISTOGRAM_BUCKETS));
+        SalaryAnalytics.Snapshot snapshot = salaryAnalytics.snapshot();
+        SalaryAnalytics.Distribution scope = department == null
+                ? snapshot.overall()
+                : snapshot.departments().get(department);
+        List<SalaryBreakdown> departments = snapshot.departments().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> toBreakdown(entry.getKey(), entry.getValue()))
+                .toList();
+        return new SalaryAnalyticsResponse(toBreakdown(department, scope), toHistogram(scope, bucketCount), departments);
+    }
+
+    private static SalaryBreakdown toBreakdown(String department, SalaryAnalytics.Distribution distribution) {
+        if (distribution == null || distribution.count() == 0) {
+            return new SalaryBreakdown(department, 0, null, null, null, null, null, null);
+        }
+        BigDecimal average = BigDecimal.valueOf(distribution.sum(), 2)
+                .divide(BigDecimal.valueOf(distribution.count()), 2, RoundingMode.HALF_UP);
+        return new SalaryBreakdown(department, distribution.count(),
+                BigDecimal.valueOf(distribution.min(), 2),
+                average,
+                BigDecimal.valueOf(distribution.max(), 2),
+                BigDecimal.valueOf(distribution.quantile(0.5), 2),
+                BigDecimal.valueOf(distribution.quantile(0.9), 2),
+                BigDecimal.valueOf(distribution.quantile(0.99), 2));
+    }
+
+    // Equal-width buckets from min to max; each count is two binary searches
+    private static List<SalaryHistogramBucket> toHistogram(SalaryAnalytics.Distribution distribution, int buckets) {
+        if (distribution == null || distribution.count() == 0) {
+            return List.of();
+        }
+        long min = distribution.min();
+        long width = Math.max(1, Math.ceilDiv(distribution.max() - min + 1, buckets));
+        List<SalaryHistogramBucket> histogram = new ArrayList<>(buckets);
+        for (long from = min; from <= distribution.max(); from += width) {
+            long count = distribution.countBelow(from + width) - distribution.countBelow(from);
+            histogram.add(new SalaryHistogramBucket(BigDecimal.valueOf(from, 2), BigDecimal.valueOf(from + width, 2), count));
+        }
+        return histogram;
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // rows holds up to pageSize + 1 entries; the extra one only signals that another page exists
+    private EmployeePageResponse toPage(List<Employee> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Employee> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<EmployeeResponse> items = page.stream()
+                .map(EmployeeMapper::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? EmployeeCursor.encode(page.get(page.size() - 1).getId()) : null;
+        return new EmployeePageResponse(items, pageSize, nextCursor);
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one item");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException("Bulk request exceeds the maximum of " + bulkMaxItems + " items");
+        }
+    }
+
+    // Field errors keyed by property path, or null when the item is valid
+    private Map<String, String> validate(Object item) {
+        if (item == null) {
+            return Map.of("item", "Item is required");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(v -> errors.putIfAbsent(v.getPropertyPath().toString(), v.getMessage()));
+        return errors;
+    }
+
+    private Map<String, Long> findEmailOwners(Collection<String> emails) {
+        List<String> all = new ArrayList<>(emails);
+        Map<String, Long> owners = new HashMap<>();
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = all.subList(from, Math.min(all.size(), from + LOOKUP_CHUNK_SIZE));
+            for (Object[] row : employeeRepository.findEmailOwners(chunk)) {
+                owners.put((String) row[1], (Long) row[0]);
+            }
+        }
+        return owners;
+    }
+
+    private void flushAndClear() {
+        employeeRepository.flush();
+        entityManager.clear();
     }
 }
@@ -0,0 +1,116 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.event.RebuildableView;
+import com.example.employeeapi.event.SnapshotReader;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-process aggregates behind /stats/summary. Built from one grouped query at startup, kept current
+ * from {@link EmployeeChangedEvent}s and periodically reconciled against the database to correct drift
+ * (see {@link RebuildableView}). Readers only touch a volatile immutable snapshot.
+ */
+@Slf4j
+@Component
+public class EmployeeStatsEngine {
+
+    private final EmployeeRepository employeeRepository;
+    private final RebuildableView<Aggregate> view;
+    private volatile EmployeeStatsResponse snapshot;
+
+    public EmployeeStatsEngine(EmployeeRepository employeeRepository, SnapshotReader snapshotReader) {
+        this.employeeRepository = employeeRepository;
+        this.view = new RebuildableView<>("Employee stats", snapshotReader, this::load, Aggregate::apply,
+                aggregate -> snapshot = aggregate.toStats());
+    }
+
+    public EmployeeStatsResponse snapshot() {
+        EmployeeStatsResponse current = snapshot;
+        if (current == null) {
+            // Builds the aggregate, or waits for the build already running
+            current = view.read(aggregate -> snapshot);
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${employee.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        view.onEmployeeChanged(event);
+    }
+
+    public void rebuild() {
+        view.rebuild();
+        log.debug("Employee stats rebuilt: {}", snapshot);
+    }
+
+    private Aggregate load() {
+        Aggregate fresh = new Aggregate();
+        for (Object[] row : employeeRepository.findSalaryDistributionByDepartment()) {
+            fresh.add((String) row[0], (BigDecimal) row[1], (Long) row[2]);
+        }
+        return fresh;
+    }
+
+    private static final class Aggregate {
+        private long count;
+        private BigDecimal salarySum = BigDecimal.ZERO;
+        // Salary multiset, so the max is still known after the top earner is deleted
+        private final TreeMap<BigDecimal, Long> salaries = new TreeMap<>();
+        private final Map<String, Long> departments = new HashMap<>();
+
+        void apply(EmployeeChangedEvent event) {
+            if (event.previous() != null) {
+                remove(event.previous());
+            }
+            if (event.current() != null) {
+                add(event.current().getDepartment(), event.current().getSalary(), 1);
+            }
+        }
+
+        void add(String department, BigDecimal salary, long n) {
+            count += n;
+            salarySum = salarySum.add(salary.multiply(BigDecimal.valueOf(n)));
+            salaries.merge(salary, n, Long::sum);
+            departments.merge(department, n, Long::sum);
+        }
+
+        void remove(EmployeeResponse employee) {
+            count--;
+            salarySum = salarySum.subtract(employee.getSalary());
+            salaries.computeIfPresent(employee.getSalary(), (k, v) -> v > 1 ? v - 1 : null);
+            departments.computeIfPresent(employee.getDepartment(), (k, v) -> v > 1 ? v - 1 : null);
+        }
+
+        EmployeeStatsResponse toStats() {
+            double average = count == 0 ? 0.0
+                    : salarySum.divide(BigDecimal.valueOf(count), 10, RoundingMode.HALF_UP).doubleValue();
+            BigDecimal highest = salaries.isEmpty() ? BigDecimal.ZERO : salaries.lastKey();
+            return new EmployeeStatsResponse(count, average, highest, departments.size());
+        }
+    }
+}
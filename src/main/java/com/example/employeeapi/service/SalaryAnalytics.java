@@ -0,0 +1,250 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.event.RebuildableView;
+import com.example.employeeapi.event.SnapshotReader;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Columnar salary snapshot behind /stats/salaries. Salaries are kept per department as sorted
+ * {@code long} cents with a count per distinct value, so quantiles, histograms and min/avg/max are
+ * binary searches over primitive arrays, exact and without a BigDecimal per row.
+ * <p>
+ * Writes update the mutable columns from {@link EmployeeChangedEvent}s and mark their department dirty;
+ * the next read re-freezes only the dirty departments (in parallel) into an immutable snapshot.
+ * Rebuilt from one grouped query at startup and on the stats reconcile interval (see {@link RebuildableView}).
+ */
+@Slf4j
+@Component
+public class SalaryAnalytics {
+
+    private final EmployeeRepository employeeRepository;
+    private final RebuildableView<Columns> view;
+    private volatile Snapshot snapshot;
+
+    public SalaryAnalytics(EmployeeRepository employeeRepository, SnapshotReader snapshotReader) {
+        this.employeeRepository = employeeRepository;
+        this.view = new RebuildableView<>("Salary analytics", snapshotReader, this::load, Columns::apply,
+                columns -> snapshot = null);
+    }
+
+    /** Immutable view; departments are keyed by name. */
+    public record Snapshot(Distribution overall, Map<String, Distribution> departments) {
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // Builds the columns, or waits for the build already running
+        return view.read(columns -> {
+            if (snapshot == null) {
+                snapshot = columns.freeze();
+            }
+            return snapshot;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${employee.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        view.onEmployeeChanged(event);
+    }
+
+    public void rebuild() {
+        view.rebuild();
+        Snapshot rebuilt = snapshot();
+        log.debug("Salary analytics rebuilt: {} employees in {} departments",
+                rebuilt.overall().count(), rebuilt.departments().size());
+    }
+
+    private Columns load() {
+        Columns fresh = new Columns();
+        // Rows arrive sorted by department and salary, so every add is an append
+        for (Object[] row : employeeRepository.findSalaryDistributionByDepartmentOrdered()) {
+            long cents = toCents((BigDecimal) row[1]);
+            long count = (Long) row[2];
+            fresh.departments.computeIfAbsent((String) row[0], d -> new Column()).add(cents, count);
+            fresh.overall.add(cents, count);
+        }
+        fresh.dirty.addAll(fresh.departments.keySet());
+        return fresh;
+    }
+
+    /** Mutable columns per department plus the last frozen copy of each; guarded by the view's lock. */
+    private static final class Columns {
+        private final Map<String, Column> departments = new HashMap<>();
+        private final Column overall = new Column();
+        private final Set<String> dirty = new HashSet<>();
+        private final Map<String, Distribution> frozen = new HashMap<>();
+        private Distribution frozenOverall;
+
+        Snapshot freeze() {
+            if (!dirty.isEmpty() || frozenOverall == null) {
+                // Freezing is a prefix sum per department; independent, so split across the common pool
+                Map<String, Distribution> refrozen = dirty.parallelStream()
+                        .filter(departments::containsKey)
+                        .collect(Collectors.toMap(department -> department, department -> departments.get(department).freeze()));
+                dirty.forEach(frozen::remove);
+                frozen.putAll(refrozen);
+                dirty.clear();
+                frozenOverall = overall.freeze();
+            }
+            return new Snapshot(frozenOverall, Map.copyOf(frozen));
+        }
+
+        void apply(EmployeeChangedEvent event) {
+            EmployeeResponse previous = event.previous();
+            if (previous != null) {
+                long cents = toCents(previous.getSalary());
+                Column column = departments.get(previous.getDepartment());
+                if (column != null) {
+                    column.remove(cents);
+                    if (column.isEmpty()) {
+                        departments.remove(previous.getDepartment());
+                    }
+                }
+                overall.remove(cents);
+                dirty.add(previous.getDepartment());
+            }
+            EmployeeResponse current = event.current();
+            if (current != null) {
+                long cents = toCents(current.getSalary());
+                departments.computeIfAbsent(current.getDepartment(), d -> new Column()).add(cents, 1);
+                overall.add(cents, 1);
+                dirty.add(current.getDepartment());
+            }
+        }
+    }
+
+    static long toCents(BigDecimal salary) {
+        return salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Mutable sorted multiset of cents: distinct values ascending with a count each. */
+    static final class Column {
+        private long[] cents = new long[16];
+        private long[] counts = new long[16];
+        private int size;
+
+        void add(long value, long n) {
+            int i = size > 0 && value > cents[size - 1] ? -(size + 1) : Arrays.binarySearch(cents, 0, size, value);
+            if (i >= 0) {
+                counts[i] += n;
+                return;
+            }
+            int at = -(i + 1);
+            if (size == cents.length) {
+                cents = Arrays.copyOf(cents, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            System.arraycopy(cents, at, cents, at + 1, size - at);
+            System.arraycopy(counts, at, counts, at + 1, size - at);
+            cents[at] = value;
+            counts[at] = n;
+            size++;
+        }
+
+        void remove(long value) {
+            int i = Arrays.binarySearch(cents, 0, size, value);
+            if (i < 0) {
+                return;
+            }
+            if (--counts[i] == 0) {
+                System.arraycopy(cents, i + 1, cents, i, size - i - 1);
+                System.arraycopy(counts, i + 1, counts, i, size - i - 1);
+                size--;
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        Distribution freeze() {
+            long[] values = Arrays.copyOf(cents, size);
+            long[] cumulative = new long[size];
+            long running = 0;
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                running += counts[i];
+                cumulative[i] = running;
+                sum += values[i] * counts[i];
+            }
+            return new Distribution(values, cumulative, sum);
+        }
+    }
+
+    /**
+     * Frozen salary distribution. {@code cumulative[i]} is the number of salaries {@code <= cents[i]}.
+     * All amounts are in cents.
+     */
+    public static final class Distribution {
+        private final long[] cents;
+        private final long[] cumulative;
+        private final long sum;
+
+        Distribution(long[] cents, long[] cumulative, long sum) {
+            this.cents = cents;
+            this.cumulative = cumulative;
+            this.sum = sum;
+        }
+
+        public long count() {
+            return cents.length == 0 ? 0 : cumulative[cumulative.length - 1];
+        }
+
+        public long sum() {
+            return sum;
+        }
+
+        public long min() {
+            return cents[0];
+        }
+
+        public long max() {
+            return cents[cents.length - 1];
+        }
+
+        /** Nearest-rank quantile: the smallest salary with at least {@code q * count} salaries at or below it. */
+        public long quantile(double q) {
+            long rank = Math.max(1, (long) Math.ceil(q * count()));
+            int i = Arrays.binarySearch(cumulative, rank);
+            return cents[i >= 0 ? i : -(i + 1)];
+        }
+
+        /** Number of salaries strictly below {@code value}. */
+        public long countBelow(long value) {
+            int i = Arrays.binarySearch(cents, value);
+            int firstNotBelow = i >= 0 ? i : -(i + 1);
+            return firstNotBelow == 0 ? 0 : cumulative[firstNotBelow - 1];
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employeeapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Purges delta sync tombstones older than {@code employee.sync.tombstone-retention} and remembers the
+ * highest change_seq purged. A sync token below that may have missed a deletion and must start over
+ * with a full sync; see {@link EmployeeServiceImpl#getChangesSince}.
+ */
+@Slf4j
+@Component
+public class TombstoneRetention {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public TombstoneRetention(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${employee.sync.tombstone-retention}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    /** Highest change_seq whose tombstone may have been purged; 0 before the first purge. */
+    public long purgedThrough() {
+        Long purged = jdbcTemplate.queryForObject("SELECT purged_through FROM employee_sync_horizon WHERE id = 1", Long.class);
+        return purged == null ? 0 : purged;
+    }
+
+    /** Deletes tombstones older than {@code cutoff}; the horizon moves in the same transaction. */
+    public int purgeOlderThan(Instant cutoff) {
+        Integer purged = transactionTemplate.execute(status -> {
+            Long through = jdbcTemplate.queryForObject(
+                    "SELECT MAX(change_seq) FROM employee_tombstones WHERE changed_at < ?", Long.class, Timestamp.from(cutoff));
+            if (through == null) {
+                return 0;
+            }
+            jdbcTemplate.update("UPDATE employee_sync_horizon SET purged_through = GREATEST(purged_through, ?) WHERE id = 1", through);
+            return jdbcTemplate.update("DELETE FROM employee_tombstones WHERE change_seq <= ?", through);
+        });
+        return purged == null ? 0 : purged;
+    }
+
+    @Scheduled(fixedDelayString = "${employee.sync.purge-interval-ms}")
+    public void purge() {
+        int purged = purgeOlderThan(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} delta sync tombstones older than {}", purged, retention);
+        }
+    }
+}
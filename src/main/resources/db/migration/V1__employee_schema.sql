@@ -0,0 +1,66 @@
+-- Schema as Hibernate (ddl-auto=update) used to create it. Every statement is idempotent, so this also
+-- runs cleanly against databases created before migrations existed (baselined at version 0).
+
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id          bigint       NOT NULL PRIMARY KEY,
+    name        varchar(255) NOT NULL,
+    position    varchar(255) NOT NULL,
+    department  varchar(255) NOT NULL,
+    salary      numeric(10, 2) NOT NULL,
+    email       varchar(255) NOT NULL UNIQUE,
+    phone       varchar(255) NOT NULL,
+    hire_date   date         NOT NULL,
+    created_at  timestamp(6) with time zone,
+    updated_at  timestamp(6) with time zone,
+    version     bigint,
+    change_seq  bigint,
+    changed_at  timestamp(6) with time zone
+);
+
+-- Columns added over time; older databases may still miss them
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version bigint;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS change_seq bigint;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS changed_at timestamp(6) with time zone;
+
+-- Leading department column also serves plain department lookups
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department, id);
+-- Keyset scans for delta sync (?changedSince=)
+CREATE INDEX IF NOT EXISTS idx_employees_change_seq ON employees (change_seq);
+
+CREATE TABLE IF NOT EXISTS employee_tombstones (
+    change_seq  bigint NOT NULL PRIMARY KEY,
+    employee_id bigint NOT NULL,
+    changed_at  timestamp(6) with time zone NOT NULL
+);
+
+-- Transactional outbox behind GET /api/employees/changes
+CREATE TABLE IF NOT EXISTS employee_changes (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    change_type varchar(16) NOT NULL,
+    employee_id bigint      NOT NULL,
+    payload     text        NOT NULL,
+    created_at  timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_changes_created_at ON employee_changes (created_at);
+
+-- employees.id used to be an IDENTITY column; move the pooled id sequence past any existing rows.
+SELECT setval('employees_seq', (SELECT MAX(id) FROM employees))
+WHERE (SELECT MAX(id) FROM employees) > (SELECT last_value FROM employees_seq);
+
+-- Rows created before employees.version existed start at version 0.
+UPDATE employees SET version = 0 WHERE version IS NULL;
+
+-- created_at/updated_at used to be DATE columns; ddl-auto=update never changed a column type.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'employees' AND column_name = 'created_at') = 'date' THEN
+        ALTER TABLE employees
+            ALTER COLUMN created_at TYPE timestamp(6) with time zone USING created_at::timestamptz,
+            ALTER COLUMN updated_at TYPE timestamp(6) with time zone USING updated_at::timestamptz;
+    END IF;
+END
+$$;
@@ -0,0 +1,24 @@
+-- Delta sync: every insert and update takes the next change_seq, every delete leaves a tombstone
+-- with one. Done in the database so JPA, JDBC and bulk writes are all covered.
+CREATE SEQUENCE IF NOT EXISTS employee_change_seq;
+
+CREATE OR REPLACE FUNCTION employees_track_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_tombstones (change_seq, employee_id, changed_at)
+        VALUES (nextval('employee_change_seq'), OLD.id, clock_timestamp());
+        RETURN OLD;
+    END IF;
+    NEW.change_seq := nextval('employee_change_seq');
+    NEW.changed_at := clock_timestamp();
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- CREATE OR REPLACE TRIGGER needs PostgreSQL 14+
+CREATE OR REPLACE TRIGGER employees_track_change
+    BEFORE INSERT OR UPDATE OR DELETE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employees_track_change();
+
+-- Rows written before the trigger existed get a change_seq from the trigger itself.
+UPDATE employees SET changed_at = NULL WHERE change_seq IS NULL;
@@ -0,0 +1,11 @@
+-- Tombstones are purged after employee.sync.tombstone-retention. The highest purged change_seq is kept
+-- so delta sync can tell a token that may have missed a deletion from one that has not.
+CREATE TABLE IF NOT EXISTS employee_sync_horizon (
+    id             smallint NOT NULL PRIMARY KEY CHECK (id = 1),
+    purged_through bigint   NOT NULL
+);
+
+INSERT INTO employee_sync_horizon (id, purged_through) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+-- Range scan for the purge
+CREATE INDEX IF NOT EXISTS idx_employee_tombstones_changed_at ON employee_tombstones (changed_at);
@@ -0,0 +1,66 @@
+package com.example.employeeapi.apikey;
+
+import com.example.employeeapi.ratelimit.InMemoryRateLimitStore;
+import com.example.employeeapi.ratelimit.StripedRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiKeyRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StripedRateLimiter limiter = new StripedRateLimiter(new InMemoryRateLimitStore(() -> 0L), 1);
+    private final ApiKeyProperties.Quota defaultQuota = new ApiKeyProperties.Quota(1, 2);
+
+    @Test
+    void findsClientsByPlainKeyOrHash() throws Exception {
+        String payrollHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest("payroll-secret".getBytes(StandardCharsets.UTF_8)));
+        ApiKeyRegistry registry = registry(
+                new ApiKeyProperties.Client("web", "web-secret", null, null),
+                new ApiKeyProperties.Client("payroll", null, payrollHash.toUpperCase(), null));
+
+        assertThat(registry.find("web-secret").name()).isEqualTo("web");
+        assertThat(registry.find("payroll-secret").name()).isEqualTo("payroll");
+        assertThat(registry.find("payroll-secret").authentication().getPrincipal()).isEqualTo("payroll");
+        assertThat(registry.find("guess")).isNull();
+        assertThat(registry.find(null)).isNull();
+    }
+
+    @Test
+    void quotasAreTrackedPerClient() {
+        ApiKeyRegistry registry = registry(
+                new ApiKeyProperties.Client("web", "web-secret", null, null),
+                new ApiKeyProperties.Client("batch", "batch-secret", null, new ApiKeyProperties.Quota(0, 0)));
+        ApiClient web = registry.find("web-secret");
+        ApiClient batch = registry.find("batch-secret");
+
+        assertThat(web.tryAcquire()).isZero();
+        assertThat(web.tryAcquire()).isZero();
+        assertThat(web.tryAcquire()).isPositive();
+        for (int i = 0; i < 10; i++) {
+            assertThat(batch.tryAcquire()).isZero();
+        }
+        assertThat(meterRegistry.get("api.client.requests").tags("client", "web", "outcome", "throttled")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("api.client.requests").tags("client", "batch", "outcome", "allowed")
+                .counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsClientsWithoutKey() {
+        assertThatThrownBy(() -> registry(new ApiKeyProperties.Client("web", null, null, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ApiKeyRegistry registry(ApiKeyProperties.Client... clients) {
+        return new ApiKeyRegistry(List.of(clients), defaultQuota, limiter, meterRegistry);
+    }
+}
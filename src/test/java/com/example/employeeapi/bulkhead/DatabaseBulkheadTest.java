@@ -0,0 +1,50 @@
+package com.example.employeeapi.bulkhead;
+
+import com.example.employeeapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void releaseMakesPermitAvailableAgain() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 10, Duration.ofMillis(10), 1, meterRegistry);
+
+        bulkhead.acquire();
+        assertThat(bulkhead.availablePermits()).isZero();
+        bulkhead.release();
+        bulkhead.acquire();
+
+        assertThat(meterRegistry.get("db.bulkhead.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsAfterMaxWait() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 10, Duration.ofMillis(20), 3, meterRegistry);
+        bulkhead.acquire();
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(DatabaseBusyException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 3L);
+        assertThat(bulkhead.queued()).isZero();
+        assertThat(meterRegistry.get("db.bulkhead.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 0, Duration.ofSeconds(30), 1, meterRegistry);
+        bulkhead.acquire();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(DatabaseBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("db.bulkhead.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+    }
+}
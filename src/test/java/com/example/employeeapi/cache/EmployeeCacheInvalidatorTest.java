@@ -0,0 +1,91 @@
+package com.example.employeeapi.cache;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.model.EmployeeResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.DEPARTMENTS_CACHE;
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.EMPLOYEES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeCacheInvalidatorTest {
+
+    @Test
+    void updateEvictsEntryOnEveryReplica() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        CacheManager nodeA = new ConcurrentMapCacheManager(EMPLOYEES_CACHE);
+        CacheManager nodeB = new ConcurrentMapCacheManager(EMPLOYEES_CACHE);
+        EmployeeCacheInvalidator invalidatorA = new EmployeeCacheInvalidator(nodeA, bus);
+        EmployeeCacheInvalidator invalidatorB = new EmployeeCacheInvalidator(nodeB, bus);
+        invalidatorA.subscribe();
+        invalidatorB.subscribe();
+
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(7L);
+        nodeA.getCache(EMPLOYEES_CACHE).put(7L, employee);
+        nodeB.getCache(EMPLOYEES_CACHE).put(7L, employee);
+
+        invalidatorA.onEmployeeChanged(EmployeeChangedEvent.updated(employee, employee));
+
+        assertThat(nodeA.getCache(EMPLOYEES_CACHE).get(7L)).isNull();
+        assertThat(nodeB.getCache(EMPLOYEES_CACHE).get(7L)).isNull();
+    }
+
+    @Test
+    void fillRacingAnEvictionIsDropped() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager(EMPLOYEES_CACHE);
+        EmployeeCacheInvalidator invalidator = new EmployeeCacheInvalidator(cacheManager, new InMemoryCacheInvalidationBus());
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        EmployeeResponse loaded = new EmployeeResponse();
+        loaded.setId(9L);
+
+        long before = invalidator.employeeEvictions();
+        invalidator.onEmployeeChanged(EmployeeChangedEvent.updated(loaded, loaded));
+        invalidator.putIfNotEvicted(cache, 9L, loaded, before);
+        assertThat(cache.get(9L)).isNull();
+
+        invalidator.putIfNotEvicted(cache, 9L, loaded, invalidator.employeeEvictions());
+        assertThat(cache.get(9L)).isNotNull();
+    }
+
+    @Test
+    void createDoesNotTouchCache() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager(EMPLOYEES_CACHE);
+        EmployeeCacheInvalidator invalidator = new EmployeeCacheInvalidator(cacheManager, new InMemoryCacheInvalidationBus());
+
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(8L);
+        cacheManager.getCache(EMPLOYEES_CACHE).put(8L, employee);
+        invalidator.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+
+        assertThat(cacheManager.getCache(EMPLOYEES_CACHE).get(8L)).isNotNull();
+    }
+
+    @Test
+    void departmentMoveEvictsPagesOfBothDepartmentsOnly() {
+        CacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES_CACHE, DEPARTMENTS_CACHE);
+        EmployeeCacheInvalidator invalidator = new EmployeeCacheInvalidator(cacheManager, new InMemoryCacheInvalidationBus());
+        Cache pages = cacheManager.getCache(DEPARTMENTS_CACHE);
+        pages.put(new DepartmentPageKey("Sales", 0, 100), "sales page 1");
+        pages.put(new DepartmentPageKey("Sales", 250, 100), "sales page 2");
+        pages.put(new DepartmentPageKey("Engineering", 0, 100), "engineering page 1");
+        pages.put(new DepartmentPageKey("Finance", 0, 100), "finance page 1");
+
+        EmployeeResponse before = new EmployeeResponse();
+        before.setId(9L);
+        before.setDepartment("Sales");
+        EmployeeResponse after = new EmployeeResponse();
+        after.setId(9L);
+        after.setDepartment("Engineering");
+        invalidator.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        assertThat(pages.get(new DepartmentPageKey("Sales", 0, 100))).isNull();
+        assertThat(pages.get(new DepartmentPageKey("Sales", 250, 100))).isNull();
+        assertThat(pages.get(new DepartmentPageKey("Engineering", 0, 100))).isNull();
+        assertThat(pages.get(new DepartmentPageKey("Finance", 0, 100))).isNotNull();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employeeapi.cache;
+
+import com.example.employeeapi.model.EmployeePageResponse;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.EMPLOYEES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+
+    @Test
+    void fragmentsMatchJacksonOutput() throws Exception {
+        EmployeeJsonCache cache = newCache(1 << 20, false);
+        EmployeeResponse employee = employee(1L, 0L, "Ada Lovelace");
+
+        assertThat(cache.json(employee)).isEqualTo(objectMapper.writeValueAsBytes(employee));
+    }
+
+    @Test
+    void pageIsSplicedFromFragments() throws Exception {
+        EmployeeJsonCache cache = newCache(1 << 20, false);
+        EmployeePageResponse page = new EmployeePageResponse(
+                List.of(employee(1L, 0L, "Ada Lovelace"), employee(2L, 3L, "Grace Hopper")), 2, "Ag");
+        EmployeePageResponse empty = new EmployeePageResponse(List.of(), 100, null);
+
+        assertThat(concat(cache.page(page))).isEqualTo(objectMapper.writeValueAsBytes(page));
+        assertThat(concat(cache.page(empty))).isEqualTo(objectMapper.writeValueAsBytes(empty));
+    }
+
+    @Test
+    void newerVersionIsReserializedAndNeverDowngraded() throws Exception {
+        EmployeeJsonCache cache = newCache(1 << 20, false);
+        EmployeeResponse before = employee(1L, 1L, "Ada Lovelace");
+        EmployeeResponse after = employee(1L, 2L, "Ada King");
+
+        cache.json(before);
+        assertThat(cache.json(after)).isEqualTo(objectMapper.writeValueAsBytes(after));
+        // A reader still holding the old response gets its own bytes, but the cache keeps the newer ones
+        assertThat(cache.json(before)).isEqualTo(objectMapper.writeValueAsBytes(before));
+        assertThat(cache.json(after)).isSameAs(cache.json(after));
+    }
+
+    @Test
+    void employeeEvictionDropsFragment() {
+        EmployeeJsonCache cache = newCache(1 << 20, false);
+        EmployeeResponse employee = employee(1L, 0L, "Ada Lovelace");
+        byte[] first = cache.json(employee);
+
+        bus.publish(new CacheInvalidation("other-node", EMPLOYEES_CACHE, 1L));
+
+        assertThat(cache.json(employee)).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void gzipVariantDecompressesToTheJson() throws Exception {
+        EmployeeJsonCache cache = newCache(1 << 20, true);
+        EmployeeResponse employee = employee(1L, 0L, "Ada Lovelace");
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cache.gzip(employee)))) {
+            assertThat(in.readAllBytes()).isEqualTo(cache.json(employee));
+        }
+    }
+
+    private EmployeeJsonCache newCache(long maxBytes, boolean gzip) {
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, bus, new SimpleMeterRegistry(), maxBytes, gzip);
+        cache.subscribe();
+        return cache;
+    }
+
+    private static byte[] concat(JsonFragments fragments) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : fragments.parts()) {
+            out.write(part);
+        }
+        assertThat((long) out.size()).isEqualTo(fragments.length());
+        return out.toByteArray();
+    }
+
+    private static EmployeeResponse employee(Long id, Long version, String name) {
+        return new EmployeeResponse(id, name, "Engineer", "Engineering", new BigDecimal("1000.00"),
+                "e" + id + "@example.com", "555-0100", LocalDate.of(2020, 1, 2),
+                Instant.parse("2020-01-02T08:30:00Z"), Instant.parse("2021-03-04T16:45:12.345678Z"), version);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.employeeapi.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.DEPARTMENTS_CACHE;
+import static com.example.employeeapi.cache.EmployeeCacheInvalidator.EMPLOYEES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionsTest {
+
+    @Test
+    void departmentChangeMovesOnlyThatDepartmentAndTheGlobalTag() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        ResourceVersions versions = new ResourceVersions(bus);
+        versions.subscribe();
+        String all = versions.allEmployeesTag();
+        String engineering = versions.departmentTag("Engineering");
+        String sales = versions.departmentTag("Sales");
+
+        bus.publish(new CacheInvalidation("other-node", DEPARTMENTS_CACHE, "Engineering"));
+
+        assertThat(versions.allEmployeesTag()).isNotEqualTo(all);
+        assertThat(versions.departmentTag("Engineering")).isNotEqualTo(engineering);
+        assertThat(versions.departmentTag("Sales")).isEqualTo(sales);
+    }
+
+    @Test
+    void employeeEvictionMovesTheGlobalTag() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        ResourceVersions versions = new ResourceVersions(bus);
+        versions.subscribe();
+        String all = versions.allEmployeesTag();
+
+        bus.publish(new CacheInvalidation("other-node", EMPLOYEES_CACHE, 7L));
+
+        assertThat(versions.allEmployeesTag()).isNotEqualTo(all);
+    }
+
+    @Test
+    void tagsAreQuotedAndStableWithoutChanges() {
+        ResourceVersions versions = new ResourceVersions(new InMemoryCacheInvalidationBus());
+
+        assertThat(versions.allEmployeesTag()).startsWith("\"").endsWith("\"").isEqualTo(versions.allEmployeesTag());
+        assertThat(versions.departmentTag("Unknown")).isEqualTo(versions.departmentTag("Unknown"));
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.employeeapi.changes;
+
+import com.example.employeeapi.exception.SubscriberLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChangeDispatcherTest {
+
+    private static final Pattern EVENT = Pattern.compile("id:(\\d+)\nevent:(\\w+)\n");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<OutboxEntry> table = new CopyOnWriteArrayList<>();
+    private ChangeDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ChangeOutbox outbox = mock(ChangeOutbox.class);
+        when(outbox.read(anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            long upTo = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return table.stream().filter(entry -> entry.offset() > after && entry.offset() <= upTo).limit(limit).toList();
+        });
+        when(outbox.latestOffset()).thenAnswer(invocation -> table.isEmpty() ? 0L : table.get(table.size() - 1).offset());
+        when(outbox.oldestOffset()).thenAnswer(invocation -> table.isEmpty() ? Long.MAX_VALUE : table.get(0).offset());
+
+        dispatcher = new ChangeDispatcher(outbox, meterRegistry, 2, 4, 2, 10, 1000, 60_000, 24) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void fansNewChangesOutToEverySubscriber() {
+        dispatcher.start();
+        RecordingEmitter first = (RecordingEmitter) dispatcher.subscribe(null);
+        RecordingEmitter second = (RecordingEmitter) dispatcher.subscribe(null);
+
+        commit(1, 2, 3);
+
+        awaitUntil(() -> first.offsets().size() == 3 && second.offsets().size() == 3);
+        assertThat(first.offsets()).containsExactly(1L, 2L, 3L);
+        assertThat(second.offsets()).containsExactly(1L, 2L, 3L);
+        assertThat(first.types()).containsOnly("created");
+    }
+
+    @Test
+    void rejectsSubscribersBeyondTheLimit() {
+        dispatcher.start();
+        dispatcher.subscribe(null);
+        dispatcher.subscribe(null);
+
+        assertThatThrownBy(() -> dispatcher.subscribe(null)).isInstanceOf(SubscriberLimitException.class);
+        assertThat(meterRegistry.get("employee.changes.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void resumesAfterTheGivenOffsetFromTheTable() {
+        commit(1, 2, 3, 4, 5);
+        dispatcher.start();
+
+        RecordingEmitter emitter = (RecordingEmitter) dispatcher.subscribe(2L);
+        commit(6);
+
+        awaitUntil(() -> emitter.offsets().size() == 4);
+        assertThat(emitter.offsets()).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void cursorOlderThanRetentionStartsWithReset() {
+        commit(4, 5);
+        dispatcher.start();
+
+        RecordingEmitter emitter = (RecordingEmitter) dispatcher.subscribe(1L);
+
+        awaitUntil(() -> emitter.offsets().size() == 3);
+        assertThat(emitter.types()).containsExactly("reset", "created", "created");
+        assertThat(emitter.offsets()).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void completedAndTimedOutEmittersFreeTheirSlot() {
+        dispatcher.start();
+        RecordingEmitter completed = (RecordingEmitter) dispatcher.subscribe(null);
+        RecordingEmitter timedOut = (RecordingEmitter) dispatcher.subscribe(null);
+
+        completed.completionCallback.run();
+        timedOut.timeoutCallback.run();
+
+        assertThat(meterRegistry.get("employee.changes.subscribers").gauge().value()).isZero();
+        assertThat(timedOut.completed).isTrue();
+        RecordingEmitter next = (RecordingEmitter) dispatcher.subscribe(null);
+        commit(1);
+        awaitUntil(() -> next.offsets().size() == 1);
+        assertThat(completed.offsets()).isEmpty();
+    }
+
+    private void commit(long... offsets) {
+        for (long offset : offsets) {
+            table.add(new OutboxEntry(offset, "created", "{\"id\":" + offset + "}"));
+        }
+        dispatcher.onEmployeeChanged(null);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted", ex);
+            }
+        }
+    }
+
+    /** Records what would have been written to the client; lifecycle callbacks are run by the test. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private Runnable completionCallback;
+        private Runnable timeoutCallback;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<Long> offsets() {
+            List<Long> offsets = new ArrayList<>();
+            for (String event : events) {
+                Matcher matcher = EVENT.matcher(event);
+                if (matcher.find()) {
+                    offsets.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+            return offsets;
+        }
+
+        List<String> types() {
+            List<String> types = new ArrayList<>();
+            for (String event : events) {
+                Matcher matcher = EVENT.matcher(event);
+                if (matcher.find()) {
+                    types.add(matcher.group(2));
+                }
+            }
+            return types;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employeeapi.changes;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeOutboxTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ChangeOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE employee_changes (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, change_type VARCHAR(16) NOT NULL,
+                    employee_id BIGINT NOT NULL, payload TEXT NOT NULL, created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL)
+                """);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        outbox = new ChangeOutbox(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void writesOnlyCommittedChanges() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.onEmployeeChanged(EmployeeChangedEvent.created(employee(1L)));
+            outbox.onEmployeeChanged(EmployeeChangedEvent.created(employee(2L)));
+            // Batched until commit
+            assertThat(count()).isZero();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(3L)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(count()).isEqualTo(2);
+        assertThat(outbox.latestOffset()).isEqualTo(2);
+        assertThat(outbox.oldestOffset()).isEqualTo(1);
+    }
+
+    @Test
+    void readsEntriesInOffsetOrderWithinBounds() {
+        for (long id = 1; id <= 5; id++) {
+            outbox.onEmployeeChanged(EmployeeChangedEvent.created(employee(id)));
+        }
+
+        assertThat(outbox.read(1, 4, 10)).extracting(OutboxEntry::offset).containsExactly(2L, 3L, 4L);
+        assertThat(outbox.read(0, Long.MAX_VALUE, 2)).extracting(OutboxEntry::offset).containsExactly(1L, 2L);
+        OutboxEntry entry = outbox.read(4, 5, 10).get(0);
+        assertThat(entry.type()).isEqualTo("created");
+        assertThat(entry.payload()).contains("\"id\":5");
+    }
+
+    @Test
+    void purgesOnlyEntriesOlderThanCutoff() {
+        outbox.onEmployeeChanged(EmployeeChangedEvent.created(employee(1L)));
+        outbox.onEmployeeChanged(EmployeeChangedEvent.created(employee(2L)));
+        jdbcTemplate.update("UPDATE employee_changes SET created_at = ? WHERE id = 1",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(2))));
+
+        assertThat(outbox.purgeOlderThan(Instant.now().minus(Duration.ofDays(1)))).isEqualTo(1);
+        assertThat(outbox.oldestOffset()).isEqualTo(2);
+        assertThat(outbox.latestOffset()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyOutboxHasNoOffsets() {
+        assertThat(outbox.latestOffset()).isZero();
+        assertThat(outbox.oldestOffset()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_changes", Integer.class);
+    }
+
+    private static EmployeeResponse employee(Long id) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setName("Employee " + id);
+        return response;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.employeeapi.changes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeRingTest {
+
+    @Test
+    void returnsEntriesAfterCursorAcrossGaps() {
+        ChangeRing ring = new ChangeRing(8, 10);
+        for (long offset : new long[]{11, 12, 15, 16}) {
+            ring.append(entry(offset));
+        }
+
+        assertThat(offsets(ring.after(10, 10))).containsExactly(11L, 12L, 15L, 16L);
+        assertThat(offsets(ring.after(12, 10))).containsExactly(15L, 16L);
+        assertThat(offsets(ring.after(13, 1))).containsExactly(15L);
+        assertThat(ring.after(16, 10)).isEmpty();
+        assertThat(ring.last()).isEqualTo(16);
+    }
+
+    @Test
+    void evictionRaisesFloor() {
+        ChangeRing ring = new ChangeRing(3, 0);
+        assertThat(ring.last()).isZero();
+
+        for (long offset = 1; offset <= 5; offset++) {
+            ring.append(entry(offset));
+        }
+
+        // 1 and 2 were evicted: cursors below 2 must be served from the table
+        assertThat(ring.floor()).isEqualTo(2);
+        assertThat(offsets(ring.after(2, 10))).containsExactly(3L, 4L, 5L);
+        assertThat(ring.last()).isEqualTo(5);
+    }
+
+    private static OutboxEntry entry(long offset) {
+        return new OutboxEntry(offset, "updated", "{\"id\":" + offset + "}");
+    }
+
+    private static List<Long> offsets(List<OutboxEntry> entries) {
+        return entries.stream().map(OutboxEntry::offset).toList();
+    }
+}
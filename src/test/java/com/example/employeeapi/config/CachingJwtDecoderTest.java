@@ -0,0 +1,135 @@
+package com.example.employeeapi.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RSAKey signingKey;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+    }
+
+    @Test
+    void verifiesEachTokenOnlyOnce() throws JOSEException {
+        AtomicInteger verifications = new AtomicInteger();
+        JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(signingKey.toRSAPublicKey()).build();
+        CachingJwtDecoder decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return nimbus.decode(token);
+        }, 100, Duration.ofHours(1), meterRegistry);
+
+        String token = token(signingKey, Instant.now().plusSeconds(300));
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() throws JOSEException {
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("other-key").generate();
+        AtomicInteger verifications = new AtomicInteger();
+        JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(signingKey.toRSAPublicKey()).build();
+        CachingJwtDecoder decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return nimbus.decode(token);
+        }, 100, Duration.ofHours(1), meterRegistry);
+
+        String forged = token(otherKey, Instant.now().plusSeconds(300));
+        assertThatThrownBy(() -> decoder.decode(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(forged)).isInstanceOf(JwtException.class);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void jwkSourceFallsBackToLocalFileWhenEndpointIsUnreachable(@TempDir Path dir) throws Exception {
+        Path localFile = dir.resolve("jwks.json");
+        Files.writeString(localFile, new JWKSet(signingKey).toString(true));
+        RefreshingJwkSource jwkSource = new RefreshingJwkSource(
+                URI.create("http://127.0.0.1:1/.well-known/jwks.json").toURL(), localFile, meterRegistry);
+        jwkSource.initialize();
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        Jwt jwt = new NimbusJwtDecoder(processor).decode(token(signingKey, Instant.now().plusSeconds(300)));
+
+        assertThat(jwt.getSubject()).isEqualTo("client-1");
+        assertThat(meterRegistry.get("jwks.refresh").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void jwkSourceInitializedInBackgroundStartsFromLocalFile(@TempDir Path dir) throws Exception {
+        Path localFile = dir.resolve("jwks.json");
+        Files.writeString(localFile, new JWKSet(signingKey).toString(true));
+        RefreshingJwkSource jwkSource = new RefreshingJwkSource(
+                URI.create("http://127.0.0.1:1/.well-known/jwks.json").toURL(), localFile, meterRegistry);
+        jwkSource.initializeInBackground();
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        Jwt jwt = new NimbusJwtDecoder(processor).decode(token(signingKey, Instant.now().plusSeconds(300)));
+
+        assertThat(jwt.getSubject()).isEqualTo("client-1");
+    }
+
+    @Test
+    void jwkSourceInitializedInBackgroundHoldsTokensUntilFirstFetchFails() throws Exception {
+        RefreshingJwkSource jwkSource = new RefreshingJwkSource(
+                URI.create("http://127.0.0.1:1/.well-known/jwks.json").toURL(), null, meterRegistry);
+        jwkSource.initializeInBackground();
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        String token = token(signingKey, Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> new NimbusJwtDecoder(processor).decode(token)).isInstanceOf(JwtException.class);
+        assertThat(meterRegistry.get("jwks.refresh").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    private static String token(RSAKey key, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("client-1")
+                .issueTime(new Date())
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.employeeapi.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoggingFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void attachAppender() {
+        previousLevel = accessLogger.getLevel();
+        accessLogger.setLevel(Level.INFO);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void wellFormedIncomingRequestIdIsKeptAndInMdcDuringTheRequest() throws Exception {
+        MockHttpServletRequest request = request("GET", "trace-42:a_b.c");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> mdc = new AtomicReference<>();
+
+        new LoggingFilter(1.0).doFilter(request, response, (req, res) -> mdc.set(MDC.get("requestId")));
+
+        assertThat(response.getHeader("X-Request-ID")).isEqualTo("trace-42:a_b.c");
+        assertThat(mdc.get()).isEqualTo("trace-42:a_b.c");
+        assertThat(MDC.get("requestId")).isNull();
+        assertThat(value(single(), "requestId")).isEqualTo("trace-42:a_b.c");
+    }
+
+    @Test
+    void oddOrOversizedRequestIdsAreReplaced() throws Exception {
+        for (String incoming : List.of("has space", "new\nline", "x".repeat(65), "")) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            new LoggingFilter(1.0).doFilter(request("GET", incoming), response, (req, res) -> { });
+
+            assertThat(response.getHeader("X-Request-ID")).isNotEqualTo(incoming).matches("[0-9a-z]+-[0-9a-z]+");
+        }
+
+        MockHttpServletResponse longest = new MockHttpServletResponse();
+        new LoggingFilter(1.0).doFilter(request("GET", "x".repeat(64)), longest, (req, res) -> { });
+        assertThat(longest.getHeader("X-Request-ID")).isEqualTo("x".repeat(64));
+    }
+
+    @Test
+    void samplingOnlyDropsSuccessfulGets() throws Exception {
+        LoggingFilter filter = new LoggingFilter(0.0);
+
+        filter.doFilter(request("GET", null), new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(request("POST", null), new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(request("GET", null), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(404));
+
+        assertThat(appender.list).extracting(event -> value(event, "method") + " " + value(event, "status"))
+                .containsExactly("POST 200", "GET 404");
+    }
+
+    @Test
+    void failedRequestIsLoggedAsServerError() {
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> new LoggingFilter(0.0).doFilter(request("GET", null), new MockHttpServletResponse(), failing))
+                .hasMessage("boom");
+        assertThat(value(single(), "status")).isEqualTo(500);
+    }
+
+    @Test
+    void asyncRequestIsLoggedWhenItCompletes() throws Exception {
+        MockHttpServletRequest request = request("GET", "stream-1");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new LoggingFilter(1.0).doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(appender.list).isEmpty();
+
+        response.setStatus(206);
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(value(single(), "status")).isEqualTo(206);
+        assertThat(value(single(), "requestId")).isEqualTo("stream-1");
+    }
+
+    private ILoggingEvent single() {
+        assertThat(appender.list).hasSize(1);
+        return appender.list.get(0);
+    }
+
+    private static Object value(ILoggingEvent event, String key) {
+        return event.getKeyValuePairs().stream().filter(pair -> pair.key.equals(key)).map(pair -> pair.value)
+                .findFirst().orElse(null);
+    }
+
+    private static MockHttpServletRequest request(String method, String requestId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/employees");
+        if (requestId != null) {
+            request.addHeader("X-Request-ID", requestId);
+        }
+        return request;
+    }
+}
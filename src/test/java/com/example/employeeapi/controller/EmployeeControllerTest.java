@@ -0,0 +1,179 @@
+package com.example.employeeapi.controller;
+
+import com.example.employeeapi.cache.CacheInvalidation;
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.cache.EmployeeJsonCache;
+import com.example.employeeapi.cache.InMemoryCacheInvalidationBus;
+import com.example.employeeapi.cache.ResourceVersions;
+import com.example.employeeapi.changes.ChangeDispatcher;
+import com.example.employeeapi.exception.ErrorLogLimiter;
+import com.example.employeeapi.exception.GlobalExceptionHandler;
+import com.example.employeeapi.exception.NotFoundException;
+import com.example.employeeapi.exception.VersionMismatchException;
+import com.example.employeeapi.export.EmployeeExporter;
+import com.example.employeeapi.importer.EmployeeImporter;
+import com.example.employeeapi.model.EmployeePageResponse;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final ResourceVersions resourceVersions = new ResourceVersions(bus);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.invokeMethod(resourceVersions, "subscribe");
+        EmployeeJsonCache jsonCache = new EmployeeJsonCache(objectMapper, bus, new SimpleMeterRegistry(), 1 << 20, false);
+        EmployeeController controller = new EmployeeController(employeeService, objectMapper, resourceVersions, jsonCache,
+                mock(ChangeDispatcher.class), mock(EmployeeExporter.class), mock(EmployeeImporter.class));
+        ReflectionTestUtils.setField(controller, "employeeCacheControl", "private, no-cache");
+        ReflectionTestUtils.setField(controller, "employeesCacheControl", "private, no-cache");
+        ReflectionTestUtils.setField(controller, "departmentCacheControl", "private, no-cache");
+        ReflectionTestUtils.setField(controller, "statsCacheControl", "private, max-age=5");
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorLogLimiter(new SimpleMeterRegistry(), Duration.ofSeconds(10))))
+                .build();
+    }
+
+    @Test
+    void employeeCarriesItsVersionAsETag() throws Exception {
+        when(employeeService.getEmployeeById(7L)).thenReturn(employee(7L, 3L));
+
+        mockMvc.perform(get("/api/employees/7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andExpect(jsonPath("$.id").value(7));
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        when(employeeService.getEmployeeById(7L)).thenReturn(employee(7L, 3L));
+
+        mockMvc.perform(get("/api/employees/7").header(HttpHeaders.IF_NONE_MATCH, "\"2\", W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        mockMvc.perform(get("/api/employees/7").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void departmentPageIsNotModifiedUntilTheDepartmentChanges() throws Exception {
+        when(employeeService.getEmployeesByDepartment("Sales", null, 100)).thenReturn(new EmployeePageResponse(List.of(), 100, null));
+        String etag = resourceVersions.departmentTag("Sales");
+
+        mockMvc.perform(get("/api/employees/department/Sales").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(employeeService, never()).getEmployeesByDepartment(any(), any(), eq(100));
+
+        bus.publish(new CacheInvalidation("other-node", EmployeeCacheInvalidator.DEPARTMENTS_CACHE, "Sales"));
+        mockMvc.perform(get("/api/employees/department/Sales").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void statsAreNotModifiedWhileTheSummaryIsUnchanged() throws Exception {
+        when(employeeService.getStatsSummary()).thenReturn(new EmployeeStatsResponse(10L, 1500.0, new BigDecimal("3000.00"), 2));
+        String etag = mockMvc.perform(get("/api/employees/stats/summary"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/employees/stats/summary").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=5"));
+    }
+
+    @Test
+    void ifMatchIsPassedOnAsExpectedVersion() throws Exception {
+        when(employeeService.updateEmployee(eq(7L), any(EmployeeRequest.class), eq(3L))).thenReturn(employee(7L, 4L));
+
+        mockMvc.perform(update(7L).header(HttpHeaders.IF_MATCH, "\"3-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void wildcardOrMissingIfMatchUpdatesUnconditionally() throws Exception {
+        when(employeeService.updateEmployee(eq(7L), any(EmployeeRequest.class), isNull())).thenReturn(employee(7L, 4L));
+
+        mockMvc.perform(update(7L).header(HttpHeaders.IF_MATCH, "*")).andExpect(status().isOk());
+        mockMvc.perform(update(7L)).andExpect(status().isOk());
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailedWithTheCurrentETag() throws Exception {
+        when(employeeService.updateEmployee(eq(7L), any(EmployeeRequest.class), eq(3L)))
+                .thenThrow(new VersionMismatchException("Employee 7 has been modified", 5L));
+
+        mockMvc.perform(update(7L).header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    void ifMatchOnMissingEmployeeIsNotFound() throws Exception {
+        when(employeeService.updateEmployee(eq(7L), any(EmployeeRequest.class), eq(3L)))
+                .thenThrow(NotFoundException.employee(7L));
+
+        mockMvc.perform(update(7L).header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void malformedIfMatchIsRejected() throws Exception {
+        mockMvc.perform(update(7L).header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isBadRequest());
+        verify(employeeService, never()).updateEmployee(any(), any(), any());
+    }
+
+    private MockHttpServletRequestBuilder update(Long id) throws Exception {
+        EmployeeRequest request = new EmployeeRequest("Alice Smith", "Engineer", "Sales", new BigDecimal("1000.00"),
+                "alice@example.com", "5551234567", LocalDate.of(2024, 1, 15));
+        return put("/api/employees/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+    }
+
+    private static EmployeeResponse employee(Long id, Long version) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setName("Employee " + id);
+        response.setDepartment("Sales");
+        response.setVersion(version);
+        return response;
+    }
+}
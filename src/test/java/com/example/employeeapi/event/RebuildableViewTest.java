@@ -0,0 +1,208 @@
+package com.example.employeeapi.event;
+
+import com.example.employeeapi.model.EmployeeResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableViewTest {
+
+    private final FakeTable table = new FakeTable();
+    private Runnable duringLoad = () -> { };
+    private final RebuildableView<Map<String, Long>> view = new RebuildableView<>("test view", table, this::load,
+            RebuildableViewTest::apply, published -> { });
+
+    @Test
+    void eventCommittedBeforeSnapshotIsNotAppliedTwice() {
+        EmployeeResponse alice = employee(1L, "Sales", 0L);
+        EmployeeChangedEvent created = table.insert(alice);
+        // Committed before the rebuild's snapshot, delivered to the listener only after the rebuild started
+        duringLoad = () -> view.onEmployeeChanged(created);
+
+        view.rebuild();
+
+        assertThat(view.<Long>read(counts -> counts.get("Sales"))).isEqualTo(1L);
+    }
+
+    @Test
+    void eventCommittedAfterSnapshotIsReplayed() {
+        table.insert(employee(1L, "Sales", 0L));
+        duringLoad = () -> view.onEmployeeChanged(table.update(employee(1L, "Engineering", 1L)));
+
+        view.rebuild();
+
+        assertThat(view.<Map<String, Long>>read(Map::copyOf)).containsExactlyInAnyOrderEntriesOf(Map.of("Engineering", 1L));
+    }
+
+    @Test
+    void deleteAfterSnapshotOfCreateBeforeIsReplayed() {
+        EmployeeChangedEvent created = table.insert(employee(1L, "Sales", 0L));
+        duringLoad = () -> {
+            view.onEmployeeChanged(created);
+            view.onEmployeeChanged(table.delete(1L));
+        };
+
+        view.rebuild();
+
+        assertThat(view.<Map<String, Long>>read(Map::copyOf)).isEmpty();
+    }
+
+    @Test
+    void createAndDeleteBothBeforeSnapshotAreSkipped() {
+        EmployeeChangedEvent created = table.insert(employee(1L, "Sales", 0L));
+        EmployeeChangedEvent deleted = table.delete(1L);
+        table.insert(employee(2L, "Sales", 0L));
+        duringLoad = () -> {
+            view.onEmployeeChanged(created);
+            view.onEmployeeChanged(deleted);
+        };
+
+        view.rebuild();
+
+        assertThat(view.<Long>read(counts -> counts.get("Sales"))).isEqualTo(1L);
+    }
+
+    @Test
+    void updatesSeenOutOfOrderAreStillReplayed() {
+        table.insert(employee(1L, "Sales", 0L));
+        duringLoad = () -> {
+            EmployeeChangedEvent first = table.update(employee(1L, "Engineering", 1L));
+            EmployeeChangedEvent second = table.update(employee(1L, "Finance", 2L));
+            view.onEmployeeChanged(second);
+            view.onEmployeeChanged(first);
+        };
+
+        view.rebuild();
+
+        assertThat(view.<Map<String, Long>>read(Map::copyOf)).containsExactlyInAnyOrderEntriesOf(Map.of("Finance", 1L));
+    }
+
+    @Test
+    void readerWaitsForRebuildInFlight() throws Exception {
+        table.insert(employee(1L, "Sales", 0L));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        duringLoad = () -> {
+            loading.countDown();
+            await(release);
+        };
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(view::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Long> reader = CompletableFuture.supplyAsync(() -> view.read(counts -> counts.get("Sales")));
+
+        Thread.sleep(100);
+        assertThat(reader).isNotDone();
+        release.countDown();
+
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(table.loads).isEqualTo(1);
+    }
+
+    @Test
+    void failedRebuildReachesWaitersAndCanBeRetried() {
+        duringLoad = () -> {
+            throw new IllegalStateException("database down");
+        };
+        assertThatThrownBy(view::rebuild).hasMessage("database down");
+
+        duringLoad = () -> { };
+        table.insert(employee(1L, "Sales", 0L));
+        assertThat(view.<Long>read(counts -> counts.get("Sales"))).isEqualTo(1L);
+    }
+
+    @Test
+    void liveEventsApplyOnceTheViewIsBuilt() {
+        view.rebuild();
+
+        view.onEmployeeChanged(table.insert(employee(1L, "Sales", 0L)));
+
+        assertThat(view.<Long>read(counts -> counts.get("Sales"))).isEqualTo(1L);
+    }
+
+    private Map<String, Long> load() {
+        Map<String, Long> counts = new HashMap<>();
+        table.snapshot.values().forEach(employee -> counts.merge(employee.getDepartment(), 1L, Long::sum));
+        duringLoad.run();
+        return counts;
+    }
+
+    private static void apply(Map<String, Long> counts, EmployeeChangedEvent event) {
+        if (event.previous() != null) {
+            counts.computeIfPresent(event.previous().getDepartment(), (k, v) -> v > 1 ? v - 1 : null);
+        }
+        if (event.current() != null) {
+            counts.merge(event.current().getDepartment(), 1L, Long::sum);
+        }
+    }
+
+    private static EmployeeResponse employee(Long id, String department, Long version) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setDepartment(department);
+        response.setVersion(version);
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Committed rows plus the copy one rebuild reads, standing in for a REPEATABLE READ transaction. */
+    private static final class FakeTable implements SnapshotReader {
+        private final Map<Long, EmployeeResponse> rows = new HashMap<>();
+        private final Set<Long> tombstones = new HashSet<>();
+        private Map<Long, EmployeeResponse> snapshot;
+        private Set<Long> snapshotTombstones;
+        private int loads;
+
+        EmployeeChangedEvent insert(EmployeeResponse employee) {
+            rows.put(employee.getId(), employee);
+            return EmployeeChangedEvent.created(employee);
+        }
+
+        EmployeeChangedEvent update(EmployeeResponse employee) {
+            return EmployeeChangedEvent.updated(rows.put(employee.getId(), employee), employee);
+        }
+
+        EmployeeChangedEvent delete(Long id) {
+            tombstones.add(id);
+            return EmployeeChangedEvent.deleted(rows.remove(id));
+        }
+
+        @Override
+        public synchronized <R> R inSnapshot(Supplier<R> work) {
+            snapshot = Map.copyOf(rows);
+            snapshotTombstones = Set.copyOf(tombstones);
+            loads++;
+            return work.get();
+        }
+
+        @Override
+        public Map<Long, RowState> rowStates(Collection<Long> ids) {
+            Map<Long, RowState> states = new HashMap<>();
+            for (Long id : ids) {
+                EmployeeResponse row = snapshot.get(id);
+                states.put(id, row != null ? RowState.present(row.getVersion())
+                        : snapshotTombstones.contains(id) ? RowState.DELETED : RowState.ABSENT);
+            }
+            return states;
+        }
+    }
+}
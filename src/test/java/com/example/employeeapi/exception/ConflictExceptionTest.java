@@ -0,0 +1,51 @@
+package com.example.employeeapi.exception;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.BatchUpdateException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConflictExceptionTest {
+
+    @Test
+    void duplicateEmailIsRecognisedByConstraintNameWhateverTheMessageSays() {
+        DuplicateKeyException ex = new DuplicateKeyException("insert failed",
+                violation("doppelter Schlüsselwert verletzt Unique-Constraint", "employees_email_key"));
+
+        assertThat(ConflictException.fromIntegrityViolation(ex))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(ConflictException.DUPLICATE_EMAIL);
+    }
+
+    @Test
+    void otherConstraintsAreReturnedAsTheyAre() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("insert failed",
+                violation("duplicate key value violates unique constraint \"employees_pkey\" (email)", "employees_pkey"));
+
+        assertThat(ConflictException.fromIntegrityViolation(ex)).isSameAs(ex);
+    }
+
+    @Test
+    void batchFailuresAreFollowedThroughTheNextException() {
+        BatchUpdateException batch = new BatchUpdateException("Batch entry 3 was aborted", new int[0]);
+        batch.setNextException(violation("duplicate key value violates unique constraint", "employees_email_key"));
+
+        assertThat(ConflictException.isDuplicateEmail(new DataIntegrityViolationException("batch failed", batch))).isTrue();
+    }
+
+    @Test
+    void violationsWithoutServerDetailsAreNotDuplicateEmails() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("Key (email)=(a@example.com) already exists");
+
+        assertThat(ConflictException.isDuplicateEmail(ex)).isFalse();
+    }
+
+    private static PSQLException violation(String message, String constraint) {
+        return new PSQLException(new ServerErrorMessage("SERROR\0C23505\0M" + message + "\0n" + constraint + "\0"));
+    }
+}
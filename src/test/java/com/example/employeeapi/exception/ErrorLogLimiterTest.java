@@ -0,0 +1,48 @@
+package com.example.employeeapi.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorLogLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final ErrorLogLimiter errorLog = new ErrorLogLimiter(meterRegistry, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void logsOncePerIntervalButCountsEveryError() {
+        assertThat(errorLog.warn(HttpStatus.NOT_FOUND, NotFoundException.employee(1L), "Request rejected")).isTrue();
+        for (long id = 2; id <= 100; id++) {
+            assertThat(errorLog.warn(HttpStatus.NOT_FOUND, NotFoundException.employee(id), "Request rejected")).isFalse();
+        }
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(errorLog.warn(HttpStatus.NOT_FOUND, NotFoundException.employee(101L), "Request rejected")).isTrue();
+        assertThat(meterRegistry.get("api.errors").tag("type", "NotFoundException").tag("status", "404")
+                .counter().count()).isEqualTo(101);
+    }
+
+    @Test
+    void limitsEachTypeAndStatusSeparately() {
+        assertThat(errorLog.warn(HttpStatus.NOT_FOUND, NotFoundException.employee(1L), "Request rejected")).isTrue();
+        assertThat(errorLog.warn(HttpStatus.CONFLICT, new ConflictException("taken"), "Request rejected")).isTrue();
+        assertThat(errorLog.warn(HttpStatus.BAD_REQUEST, new IllegalArgumentException("bad"), "Invalid request")).isTrue();
+        assertThat(errorLog.error(HttpStatus.INTERNAL_SERVER_ERROR, new IllegalStateException("bug"), "Unexpected error")).isTrue();
+        assertThat(errorLog.error(HttpStatus.INTERNAL_SERVER_ERROR, new IllegalStateException("bug"), "Unexpected error")).isFalse();
+    }
+
+    @Test
+    void apiExceptionsCarryNoStackTrace() {
+        ApiException ex = NotFoundException.employee(7L);
+
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(ex.getMessage()).isEqualTo("Employee not found with id: 7");
+    }
+}
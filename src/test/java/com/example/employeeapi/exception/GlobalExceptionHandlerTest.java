@@ -0,0 +1,43 @@
+package com.example.employeeapi.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler =
+            new GlobalExceptionHandler(new ErrorLogLimiter(new SimpleMeterRegistry(), Duration.ofSeconds(10)));
+
+    @Test
+    void illegalArgumentIsBadRequestWithItsMessage() {
+        ResponseEntity<Object> response = handler.handleRuntimeException(new IllegalArgumentException("size must be positive"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(((ErrorBody) response.getBody()).message()).isEqualTo("size must be positive");
+    }
+
+    @Test
+    void otherRuntimeExceptionsAreServerErrorsWithoutTheirMessage() {
+        ResponseEntity<Object> response = handler.handleRuntimeException(
+                new IllegalStateException("connection pool HikariPool-1 closed"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        ErrorBody body = (ErrorBody) response.getBody();
+        assertThat(body.status()).isEqualTo(500);
+        assertThat(body.message()).isEqualTo("An unexpected error occurred");
+    }
+
+    @Test
+    void apiExceptionsKeepTheirStatusAndMessage() {
+        ResponseEntity<Object> response = handler.handleApiException(NotFoundException.employee(7L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(((ErrorBody) response.getBody()).message()).isEqualTo("Employee not found with id: 7");
+    }
+}
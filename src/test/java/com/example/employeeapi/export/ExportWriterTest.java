@@ -0,0 +1,84 @@
+package com.example.employeeapi.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportWriterTest {
+
+    private static final List<ExportColumn> COLUMNS =
+            List.of(ExportColumn.ID, ExportColumn.NAME, ExportColumn.SALARY, ExportColumn.UPDATED_AT);
+
+    @Test
+    void csvQuotesOnlyFieldsThatNeedIt() throws Exception {
+        String csv = write(ExportFormat.CSV, row("7", "Doe, \"JD\" Jane", "1234.50", Instant.parse("2024-05-01T10:15:30Z")),
+                row("8", "Plain", "99.00", null));
+
+        assertThat(csv).isEqualTo("""
+                id,name,salary,updatedAt\r
+                7,"Doe, ""JD"" Jane",1234.50,2024-05-01T10:15:30Z\r
+                8,Plain,99.00,\r
+                """);
+    }
+
+    @Test
+    void ndjsonWritesNumbersUnquotedAndNullsExplicitly() throws Exception {
+        String ndjson = write(ExportFormat.NDJSON, row("7", "Jane", "1234.50", Instant.parse("2024-05-01T10:15:30Z")),
+                row("8", "Plain", "99.00", null));
+
+        assertThat(ndjson).isEqualTo("""
+                {"id":7,"name":"Jane","salary":1234.50,"updatedAt":"2024-05-01T10:15:30Z"}
+                {"id":8,"name":"Plain","salary":99.00,"updatedAt":null}
+                """);
+    }
+
+    @Test
+    void projectionKeepsRequestedOrderAndRejectsUnknownColumns() {
+        assertThat(ExportColumn.parse("salary, id,salary")).containsExactly(ExportColumn.SALARY, ExportColumn.ID);
+        assertThat(ExportColumn.parse(null)).containsExactly(ExportColumn.values());
+        assertThatThrownBy(() -> ExportColumn.parse("id,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    void sqlSelectsProjectionAndFiltersDepartments() {
+        assertThat(EmployeeExporter.sql(List.of(ExportColumn.ID, ExportColumn.HIRE_DATE), List.of()))
+                .isEqualTo("SELECT id, hire_date FROM employees ORDER BY id");
+        assertThat(EmployeeExporter.sql(List.of(ExportColumn.ID), List.of("IT")))
+                .isEqualTo("SELECT id FROM employees WHERE department IN (:departments) ORDER BY id");
+    }
+
+    private static String write(ExportFormat format, ResultSet... rows) throws IOException, SQLException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(format, COLUMNS, out, new ObjectMapper());
+        writer.header();
+        for (ResultSet row : rows) {
+            writer.row(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ResultSet row(String id, String name, String salary, Instant updatedAt) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(id);
+        when(rs.getString(2)).thenReturn(name);
+        when(rs.getString(3)).thenReturn(salary);
+        when(rs.getTimestamp(4)).thenReturn(updatedAt == null ? null : Timestamp.from(updatedAt));
+        return rs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.employeeapi.importer;
+
+import com.example.employeeapi.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void readsExportedCsvIgnoringExtraColumns() throws IOException {
+        List<ImportRow> rows = parse(ExportFormat.CSV, """
+                \uFEFFid,name,position,department,salary,email,phone,hireDate,createdAt\r
+                7,"Doe, ""JD"" Jane",Engineer,IT,1234.50,jane@example.com,+4915112345678,2020-01-31,2024-05-01T10:15:30Z\r
+                \r
+                8,"Multi
+                Line",Analyst,Finance,99,multi@example.com,1234567890,2021-02-01,
+                """);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).row()).isEqualTo(1);
+        assertThat(rows.get(0).request().getName()).isEqualTo("Doe, \"JD\" Jane");
+        assertThat(rows.get(0).request().getSalary()).isEqualByComparingTo(new BigDecimal("1234.50"));
+        assertThat(rows.get(0).request().getHireDate()).isEqualTo(LocalDate.of(2020, 1, 31));
+        assertThat(rows.get(1).row()).isEqualTo(2);
+        assertThat(rows.get(1).request().getName()).isEqualTo("Multi\nLine");
+    }
+
+    @Test
+    void unparseableCsvValuesBecomeFieldErrors() throws IOException {
+        List<ImportRow> rows = parse(ExportFormat.CSV, """
+                name,position,department,salary,email,phone,hire_date
+                Jane,Engineer,IT,lots,jane@example.com,1234567890,yesterday
+                """);
+
+        assertThat(rows.get(0).valid()).isFalse();
+        assertThat(rows.get(0).fieldErrors()).containsOnlyKeys("salary", "hireDate");
+    }
+
+    @Test
+    void csvWithoutRequiredColumnsIsRejected() {
+        assertThatThrownBy(() -> parse(ExportFormat.CSV, "name,email\nJane,jane@example.com\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("position");
+    }
+
+    @Test
+    void malformedNdjsonLineOnlyFailsThatRow() throws IOException {
+        List<ImportRow> rows = parse(ExportFormat.NDJSON, """
+                {"name":"Jane","position":"Engineer","department":"IT","salary":10,"email":"jane@example.com","phone":"1234567890","hireDate":"2020-01-31"}
+                {"name":"Broken",
+
+                {"name":"Joe","salary":11}
+                """);
+
+        assertThat(rows).extracting(ImportRow::row).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).valid()).isTrue();
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(2).request().getSalary()).isEqualByComparingTo("11");
+    }
+
+    private List<ImportRow> parse(ExportFormat format, String content) throws IOException {
+        ImportParser parser = ImportParser.of(format, new BufferedReader(new StringReader(content)), objectMapper);
+        List<ImportRow> rows = new ArrayList<>();
+        for (ImportRow row; (row = parser.next()) != null; ) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
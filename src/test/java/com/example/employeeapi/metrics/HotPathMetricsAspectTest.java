@@ -0,0 +1,59 @@
+package com.example.employeeapi.metrics;
+
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPathMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearProfile() {
+        RequestProfile.end();
+    }
+
+    @Test
+    void timesServiceCallsByOutcomeAndFeedsRequestProfile() {
+        EmployeeService target = mock(EmployeeService.class);
+        when(target.getEmployeeById(1L)).thenReturn(new EmployeeResponse());
+        when(target.getEmployeeById(2L)).thenThrow(new RuntimeException("Employee not found with id: 2"));
+        EmployeeService service = proxy(target);
+        RequestProfile profile = RequestProfile.begin();
+
+        service.getEmployeeById(1L);
+        assertThatThrownBy(() -> service.getEmployeeById(2L)).isInstanceOf(RuntimeException.class);
+
+        assertThat(registry.get("employee.service").tag("method", "getEmployeeById").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("employee.service").tag("method", "getEmployeeById").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+        assertThat(profile.serviceNanos()).isPositive();
+    }
+
+    @Test
+    void countsStatementsOnlyInsideARequest() {
+        StatementCountingInspector inspector = new StatementCountingInspector();
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+
+        RequestProfile profile = RequestProfile.begin();
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        assertThat(profile.statements()).isEqualTo(2);
+    }
+
+    private EmployeeService proxy(EmployeeService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new HotPathMetricsAspect(registry));
+        return factory.getProxy();
+    }
+}
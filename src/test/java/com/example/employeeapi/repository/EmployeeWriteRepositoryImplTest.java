@@ -0,0 +1,129 @@
+package com.example.employeeapi.repository;
+
+import com.example.employeeapi.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The statements themselves need PostgreSQL (CTE + {@code UPDATE ... FROM ... RETURNING}); these tests pin
+ * which statement runs with which parameters and how the returned old and new columns are mapped.
+ */
+class EmployeeWriteRepositoryImplTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-15T10:00:00Z");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final EmployeeWriteRepositoryImpl repository = new EmployeeWriteRepositoryImpl(jdbcTemplate);
+
+    @Test
+    void updateLocksTheOldRowBeforeReadingIt() {
+        String sql = runUpdate(null, List.of());
+
+        assertThat(sql).contains("FOR UPDATE").contains("FROM old").doesNotContain("FROM employees old");
+        assertThat(sql).doesNotContain(":expectedVersion");
+    }
+
+    @Test
+    void expectedVersionIsCheckedAgainstTheLockedRow() {
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        String sql = runUpdate(3L, List.of());
+
+        verify(jdbcTemplate).query(anyString(), params.capture(), any(RowMapper.class));
+        assertThat(sql).contains("AND old.version = :expectedVersion");
+        assertThat(params.getValue().getValue("expectedVersion")).isEqualTo(3L);
+        assertThat(params.getValue().getValue("id")).isEqualTo(7L);
+        assertThat(params.getValue().getValue("department")).isEqualTo("Finance");
+    }
+
+    @Test
+    void mapsOldAndNewColumnsOfTheReturnedRow() throws Exception {
+        ResultSet rs = row(Map.of(
+                "name", "Alice", "department", "Finance", "salary", new BigDecimal("2000.00"), "version", 4L,
+                "old_name", "Alice", "old_department", "Sales", "old_salary", new BigDecimal("1000.00"), "old_version", 3L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RowMapper<EmployeeWriteRepository.RowChange>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), mapper.capture())).thenAnswer(invocation ->
+                List.of(mapper.getValue().mapRow(rs, 0)));
+
+        Optional<EmployeeWriteRepository.RowChange> change = repository.updateReturning(7L, values(), 3L);
+
+        assertThat(change).isPresent();
+        Employee previous = change.get().previous();
+        Employee current = change.get().current();
+        assertThat(current.getId()).isEqualTo(7L);
+        assertThat(current.getDepartment()).isEqualTo("Finance");
+        assertThat(current.getVersion()).isEqualTo(4L);
+        assertThat(previous.getId()).isEqualTo(7L);
+        assertThat(previous.getCreatedAt()).isEqualTo(CREATED);
+        assertThat(previous.getDepartment()).isEqualTo("Sales");
+        assertThat(previous.getSalary()).isEqualByComparingTo("1000.00");
+        assertThat(previous.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void noReturnedRowMeansNothingWasUpdated() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(List.of());
+
+        assertThat(repository.updateReturning(7L, values(), 3L)).isEmpty();
+    }
+
+    @Test
+    void deleteReturnsTheRemovedRow() throws Exception {
+        ResultSet rs = row(Map.of("name", "Alice", "department", "Sales", "version", 2L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RowMapper<Employee>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(eq("DELETE FROM employees WHERE id = :id RETURNING "
+                + "id, name, position, department, salary, email, phone, hire_date, created_at, updated_at, version"),
+                any(SqlParameterSource.class), mapper.capture()))
+                .thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        assertThat(repository.deleteReturning(7L)).get()
+                .satisfies(deleted -> assertThat(deleted.getDepartment()).isEqualTo("Sales"));
+    }
+
+    private String runUpdate(Long expectedVersion, List<EmployeeWriteRepository.RowChange> result) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(result);
+        repository.updateReturning(7L, values(), expectedVersion);
+        return sql.getValue();
+    }
+
+    private static Employee values() {
+        Employee employee = new Employee();
+        employee.setName("Alice");
+        employee.setDepartment("Finance");
+        employee.setSalary(new BigDecimal("2000.00"));
+        employee.setEmail("alice@example.com");
+        return employee;
+    }
+
+    // Columns not listed are NULL; id and created_at are always those of employee 7
+    private static ResultSet row(Map<String, Object> columns) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(7L);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.from(CREATED));
+        when(rs.getString(anyString())).thenAnswer(invocation -> (String) columns.get(invocation.<String>getArgument(0)));
+        when(rs.getBigDecimal(anyString())).thenAnswer(invocation -> (BigDecimal) columns.get(invocation.<String>getArgument(0)));
+        when(rs.getObject(anyString(), eq(Long.class))).thenAnswer(invocation -> (Long) columns.get(invocation.<String>getArgument(0)));
+        return rs;
+    }
+}
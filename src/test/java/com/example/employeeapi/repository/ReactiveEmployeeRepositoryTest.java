@@ -0,0 +1,98 @@
+package com.example.employeeapi.repository;
+
+import com.example.employeeapi.model.EmployeeResponse;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveEmployeeRepositoryTest {
+
+    private CloseableConnectionFactory connectionFactory;
+    private ReactiveEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = H2ConnectionFactory.inMemory("reactive-" + UUID.randomUUID());
+        DatabaseClient client = DatabaseClient.create(connectionFactory);
+        client.sql("""
+                CREATE TABLE employees (
+                    id BIGINT PRIMARY KEY, name VARCHAR(255), position VARCHAR(255), department VARCHAR(255),
+                    salary NUMERIC(10, 2), email VARCHAR(255), phone VARCHAR(255), hire_date DATE,
+                    created_at TIMESTAMP WITH TIME ZONE, updated_at TIMESTAMP WITH TIME ZONE, version BIGINT)
+                """).then().block();
+        for (long id = 1; id <= 5; id++) {
+            client.sql("""
+                    INSERT INTO employees VALUES (:id, :name, 'Engineer', :department, 1000.50, :email, '555',
+                        DATE '2024-01-15', TIMESTAMP WITH TIME ZONE '2024-01-15 10:00:00+00', NULL, 0)
+                    """)
+                    .bind("id", id)
+                    .bind("name", "Employee " + id)
+                    .bind("department", id % 2 == 0 ? "Sales" : "Engineering")
+                    .bind("email", "e" + id + "@example.com")
+                    .then().block();
+        }
+        repository = new ReactiveEmployeeRepository(connectionFactory, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.close();
+    }
+
+    @Test
+    void findByIdMapsEveryColumn() {
+        EmployeeResponse employee = repository.findById(3L).block();
+
+        assertThat(employee).isNotNull();
+        assertThat(employee.getId()).isEqualTo(3L);
+        assertThat(employee.getName()).isEqualTo("Employee 3");
+        assertThat(employee.getDepartment()).isEqualTo("Engineering");
+        assertThat(employee.getSalary()).isEqualByComparingTo(new BigDecimal("1000.50"));
+        assertThat(employee.getHireDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(employee.getCreatedAt()).isEqualTo(Instant.parse("2024-01-15T10:00:00Z"));
+        assertThat(employee.getUpdatedAt()).isNull();
+        assertThat(employee.getVersion()).isZero();
+    }
+
+    @Test
+    void findByIdIsEmptyForUnknownId() {
+        assertThat(repository.findById(42L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void pagesContinueAfterTheLastIdInIdOrder() {
+        List<Long> first = ids(repository.findPage(0L, 3).collectList().block());
+        List<Long> second = ids(repository.findPage(first.get(first.size() - 1), 3).collectList().block());
+
+        assertThat(first).containsExactly(1L, 2L, 3L);
+        assertThat(second).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void departmentPagesOnlyContainThatDepartment() {
+        assertThat(ids(repository.findDepartmentPage("Engineering", 0L, 10).collectList().block()))
+                .containsExactly(1L, 3L, 5L);
+        assertThat(ids(repository.findDepartmentPage("Engineering", 1L, 1).collectList().block()))
+                .containsExactly(3L);
+    }
+
+    @Test
+    void takesOnlyWhatTheSubscriberAsksFor() {
+        assertThat(ids(repository.findPage(0L, 5).take(2).collectList().block())).containsExactly(1L, 2L);
+    }
+
+    private static List<Long> ids(List<EmployeeResponse> employees) {
+        return employees.stream().map(EmployeeResponse::getId).toList();
+    }
+}
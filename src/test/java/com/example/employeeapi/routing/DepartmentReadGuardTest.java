@@ -0,0 +1,59 @@
+package com.example.employeeapi.routing;
+
+import com.example.employeeapi.cache.CacheInvalidation;
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.cache.InMemoryCacheInvalidationBus;
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.model.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DepartmentReadGuardTest {
+
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final DepartmentReadGuard guard = new DepartmentReadGuard(bus, 10_000);
+
+    @BeforeEach
+    void setUp() {
+        guard.subscribe();
+    }
+
+    @Test
+    void quietDepartmentsAreNotPinned() {
+        assertThat(pinnedWhileReading("Sales")).isFalse();
+    }
+
+    @Test
+    void bothSidesOfAMoveArePinned() {
+        guard.onEmployeeChanged(EmployeeChangedEvent.updated(employee("Sales"), employee("Finance")));
+
+        assertThat(pinnedWhileReading("Sales")).isTrue();
+        assertThat(pinnedWhileReading("Finance")).isTrue();
+        assertThat(pinnedWhileReading("Engineering")).isFalse();
+    }
+
+    @Test
+    void evictionsFromOtherNodesPin() {
+        bus.publish(new CacheInvalidation("other-node", EmployeeCacheInvalidator.DEPARTMENTS_CACHE, "Sales"));
+        bus.publish(new CacheInvalidation("other-node", EmployeeCacheInvalidator.EMPLOYEES_CACHE, 7L));
+
+        assertThat(pinnedWhileReading("Sales")).isTrue();
+    }
+
+    private boolean pinnedWhileReading(String department) {
+        return guard.read(department, () -> {
+            Boolean previous = ReplicaRouter.pinToPrimary();
+            ReplicaRouter.restorePin(previous);
+            return previous != null;
+        });
+    }
+
+    private static EmployeeResponse employee(String department) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setDepartment(department);
+        return response;
+    }
+}
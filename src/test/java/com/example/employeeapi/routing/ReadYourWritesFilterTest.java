@@ -0,0 +1,63 @@
+package com.example.employeeapi.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(10), Set.of("default"));
+
+    @Test
+    void readsAfterOwnWriteArePinned() throws Exception {
+        send("POST", "alice", null);
+
+        assertThat(readPinned("alice", null)).isTrue();
+        assertThat(readPinned("bob", null)).isFalse();
+    }
+
+    @Test
+    void sharedPrincipalIsPinnedPerClientId() throws Exception {
+        send("PUT", "default", "user-1");
+
+        assertThat(readPinned("default", "user-1")).isTrue();
+        assertThat(readPinned("default", "user-2")).isFalse();
+        assertThat(readPinned("default", null)).isFalse();
+    }
+
+    @Test
+    void sharedPrincipalWithoutUsableClientIdIsNeverPinned() throws Exception {
+        send("POST", "default", null);
+        send("POST", "default", "not a valid id!");
+
+        assertThat(readPinned("default", null)).isFalse();
+        assertThat(readPinned("default", "not a valid id!")).isFalse();
+    }
+
+    private boolean readPinned(String principal, String clientId) throws Exception {
+        return send("GET", principal, clientId);
+    }
+
+    // Whether the request ran pinned to the primary
+    private boolean send(String method, String principal, String clientId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/employees");
+        request.setUserPrincipal((Principal) () -> principal);
+        if (clientId != null) {
+            request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, clientId);
+        }
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            Boolean previous = ReplicaRouter.pinToPrimary();
+            ReplicaRouter.restorePin(previous);
+            pinned.set(previous != null);
+        });
+        return pinned.get();
+    }
+}
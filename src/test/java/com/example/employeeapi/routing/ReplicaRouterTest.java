@@ -0,0 +1,113 @@
+package com.example.employeeapi.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRouterTest {
+
+    private static final String LAG_QUERY = "SELECT lag";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesAndAutocommitGoToPrimary() throws SQLException {
+        ReplicaRouter router = router(replica(0.0), replica(0.0));
+
+        assertThat(router.route()).isEqualTo(ReplicaRouter.PRIMARY);
+        assertThat(meterRegistry.get("db.routing").tag("reason", "write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinAcrossHealthyReplicas() throws SQLException {
+        ReplicaRouter router = router(replica(0.0), replica(0.5));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.route()).isEqualTo("replica-0");
+        assertThat(router.route()).isEqualTo("replica-1");
+        assertThat(router.route()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void lagBeyondLimitTakesReplicaOutOfRotation() throws SQLException {
+        ReplicaRouter router = router(replica(30.0), replica(0.0));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.route()).isEqualTo("replica-1");
+        assertThat(router.route()).isEqualTo("replica-1");
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "replica-0").gauge().value()).isZero();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRouter router = router(unreachable, replica(30.0));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.route()).isEqualTo(ReplicaRouter.PRIMARY);
+        assertThat(meterRegistry.get("db.routing").tag("reason", "fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onPrimaryPinsReadOnlyWorkAndRestoresAfterwards() throws SQLException {
+        ReplicaRouter router = router(replica(0.0));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRouter.onPrimary(router::route)).isEqualTo(ReplicaRouter.PRIMARY);
+        assertThat(router.route()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void nullLagMeansCaughtUp() throws SQLException {
+        ReplicaRouter router = router(replica(null));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.route()).isEqualTo("replica-0");
+    }
+
+    private ReplicaRouter router(DataSource... replicas) {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            targets.put("replica-" + i, replicas[i]);
+        }
+        ReplicaRouter router = new ReplicaRouter(mock(DataSource.class), targets, LAG_QUERY,
+                Duration.ofSeconds(5), meterRegistry);
+        router.checkReplicas();
+        return router;
+    }
+
+    private static DataSource replica(Double lagSeconds) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getObject(1)).thenReturn(lagSeconds);
+        when(rs.getDouble(1)).thenReturn(lagSeconds == null ? 0 : lagSeconds);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
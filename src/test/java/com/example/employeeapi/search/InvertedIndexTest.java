@@ -0,0 +1,56 @@
+package com.example.employeeapi.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1, "John Smith", "Software Engineer", "Engineering", "john.smith@example.com");
+        index.put(2, "Jane Johnson", "Sales Manager", "Sales", "jane.johnson@example.com");
+        index.put(3, "Mark Jones", "Accountant", "Finance", "mark.jones@example.com");
+    }
+
+    @Test
+    void prefixMatchesRankNameAboveOtherFields() {
+        List<InvertedIndex.Hit> hits = index.search("joh", 10);
+
+        assertThat(hits).extracting(InvertedIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertThat(index.search("jane sales", 10)).extracting(InvertedIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("jane finance", 10)).isEmpty();
+    }
+
+    @Test
+    void infixAndFuzzyMatches() {
+        assertThat(index.search("ountant", 10)).extracting(InvertedIndex.Hit::id).containsExactly(3L);
+        assertThat(index.search("enginer", 10)).extracting(InvertedIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    void updatesAndRemovalsAreVisible() {
+        index.put(1, "John Smith", "Software Engineer", "Research", "john.smith@example.com");
+        assertThat(index.search("engineering", 10)).isEmpty();
+        assertThat(index.search("research", 10)).extracting(InvertedIndex.Hit::id).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.search("smith", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void limitCapsResults() {
+        assertThat(index.search("example", 2)).hasSize(2);
+    }
+}
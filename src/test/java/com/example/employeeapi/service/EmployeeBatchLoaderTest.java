@@ -0,0 +1,101 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchLoaderTest {
+
+    private final EmployeeRepository repository = mock(EmployeeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private EmployeeBatchLoader loader;
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+        if (loader != null) {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentLookupsShareOneQuery() {
+        loader = new EmployeeBatchLoader(repository, meterRegistry, true, Duration.ofMillis(100), 100);
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            List<Employee> found = new ArrayList<>();
+            for (Long id : (Collection<Long>) invocation.getArgument(0)) {
+                if (id != 4L) {
+                    found.add(employee(id));
+                }
+            }
+            return found;
+        });
+
+        List<CompletableFuture<Optional<Employee>>> results = new ArrayList<>();
+        for (long id : new long[]{1, 2, 3, 1, 4}) {
+            results.add(CompletableFuture.supplyAsync(() -> loader.load(id), callers));
+        }
+
+        assertThat(results.get(0).join()).map(Employee::getId).contains(1L);
+        assertThat(results.get(3).join()).map(Employee::getId).contains(1L);
+        assertThat(results.get(4).join()).isEmpty();
+        verify(repository, times(1)).findAllById(any());
+        assertThat(meterRegistry.get("employee.batch-loader.coalesced").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.batch-loader.coalescing.ratio").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void fullBatchIsDispatchedWithoutWaitingForTheWindow() {
+        loader = new EmployeeBatchLoader(repository, meterRegistry, true, Duration.ofSeconds(30), 1);
+        when(repository.findAllById(any())).thenReturn(List.of(employee(7L)));
+
+        assertThat(loader.load(7L)).isPresent();
+    }
+
+    @Test
+    void queryFailureReachesEveryWaitingCaller() {
+        loader = new EmployeeBatchLoader(repository, meterRegistry, true, Duration.ofMillis(10), 100);
+        when(repository.findAllById(any())).thenThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> loader.load(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+    }
+
+    @Test
+    void disabledLoaderQueriesDirectly() {
+        loader = new EmployeeBatchLoader(repository, meterRegistry, false, Duration.ofMillis(10), 100);
+        when(repository.findById(5L)).thenReturn(Optional.of(employee(5L)));
+
+        assertThat(loader.load(5L)).isPresent();
+        verify(repository, never()).findAllById(any());
+    }
+
+    private static Employee employee(long id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeeapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeCursorTest {
+
+    @Test
+    void changeTokensRoundTripAndBlankMeansFromTheStart() {
+        EmployeeCursor.ChangeToken token = new EmployeeCursor.ChangeToken(42L, 7L);
+        assertThat(EmployeeCursor.decodeChangeToken(EmployeeCursor.encodeChangeToken(token))).isEqualTo(token);
+        assertThat(EmployeeCursor.decodeChangeToken("")).isEqualTo(new EmployeeCursor.ChangeToken(0L, Long.MAX_VALUE));
+        assertThat(EmployeeCursor.decodeChangeToken(null)).isEqualTo(new EmployeeCursor.ChangeToken(0L, Long.MAX_VALUE));
+    }
+
+    @Test
+    void tokensWithoutPurgeHorizonAreStillAccepted() {
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString("seq:42".getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(EmployeeCursor.decodeChangeToken(legacy)).isEqualTo(new EmployeeCursor.ChangeToken(42L, 0L));
+    }
+
+    @Test
+    void pageCursorsAndChangeTokensAreNotInterchangeable() {
+        String cursor = EmployeeCursor.encode(42L);
+        String token = EmployeeCursor.encodeChangeToken(new EmployeeCursor.ChangeToken(42L, 0L));
+
+        assertThatThrownBy(() -> EmployeeCursor.decodeChangeToken(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("changedSince");
+        assertThatThrownBy(() -> EmployeeCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.cache.EmployeeCacheInvalidator;
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.exception.ConflictException;
+import com.example.employeeapi.exception.NotFoundException;
+import com.example.employeeapi.exception.VersionMismatchException;
+import com.example.employeeapi.model.BulkItemResult;
+import com.example.employeeapi.model.BulkOperationResponse;
+import com.example.employeeapi.model.Employee;
+import com.example.employeeapi.model.EmployeeBulkUpdateItem;
+import com.example.employeeapi.model.EmployeeRequest;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import com.example.employeeapi.repository.EmployeeTombstoneRepository;
+import com.example.employeeapi.repository.EmployeeWriteRepository;
+import com.example.employeeapi.routing.DepartmentReadGuard;
+import com.example.employeeapi.search.EmployeeSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceImplTest {
+
+    private final EmployeeRepository repository = mock(EmployeeRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<EmployeeChangedEvent> events = new ArrayList<>();
+    private EmployeeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmployeeServiceImpl(repository, mock(EmployeeTombstoneRepository.class), mock(TombstoneRetention.class),
+                entityManager, mock(EmployeeStatsEngine.class), mock(EmployeeSearchIndex.class), mock(SalaryAnalytics.class),
+                eventPublisher, Validation.buildDefaultValidatorFactory().getValidator(), mock(EmployeeBatchLoader.class),
+                mock(CacheManager.class), mock(EmployeeCacheInvalidator.class), mock(DepartmentReadGuard.class));
+        ReflectionTestUtils.setField(service, "bulkMaxItems", 10);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        doAnswer(invocation -> events.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void updatePublishesTheOldAndNewRow() {
+        when(repository.updateReturning(eq(7L), any(Employee.class), eq(3L)))
+                .thenReturn(Optional.of(new EmployeeWriteRepository.RowChange(employee(7L, "Sales", 3L), employee(7L, "Finance", 4L))));
+
+        EmployeeResponse updated = service.updateEmployee(7L, request("alice@example.com", "Finance"), 3L);
+
+        assertThat(updated.getVersion()).isEqualTo(4L);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.previous().getDepartment()).isEqualTo("Sales");
+            assertThat(event.current().getDepartment()).isEqualTo("Finance");
+        });
+    }
+
+    @Test
+    void updateTakingAnotherEmployeesEmailIsAConflict() {
+        when(repository.updateReturning(eq(7L), any(Employee.class), any()))
+                .thenThrow(new DuplicateKeyException("update failed", emailViolation()));
+
+        assertThatThrownBy(() -> service.updateEmployee(7L, request("bob@example.com", "Sales"), null))
+                .isInstanceOf(ConflictException.class);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void updateOfStaleVersionReportsTheCurrentOne() {
+        when(repository.updateReturning(eq(7L), any(Employee.class), eq(3L))).thenReturn(Optional.empty());
+        when(repository.findById(7L)).thenReturn(Optional.of(employee(7L, "Sales", 5L)));
+
+        assertThatThrownBy(() -> service.updateEmployee(7L, request("alice@example.com", "Sales"), 3L))
+                .isInstanceOfSatisfying(VersionMismatchException.class,
+                        ex -> assertThat(ex.getCurrentVersion()).isEqualTo(5L));
+    }
+
+    @Test
+    void updateOfMissingEmployeeIsNotFoundWithOrWithoutVersion() {
+        when(repository.updateReturning(eq(7L), any(Employee.class), any())).thenReturn(Optional.empty());
+        when(repository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateEmployee(7L, request("alice@example.com", "Sales"), 3L))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> service.updateEmployee(7L, request("alice@example.com", "Sales"), null))
+                .isInstanceOf(NotFoundException.class);
+        // Without an expected version there is nothing to compare, so no extra lookup
+        verify(repository, times(1)).findById(7L);
+    }
+
+    @Test
+    void deleteOfMissingEmployeeIsNotFound() {
+        when(repository.deleteReturning(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deleteEmployee(7L)).isInstanceOf(NotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bulkCreateReportsEachRejectedItemAndInsertsTheRest() {
+        EmployeeRequest invalid = request("not-an-email", "Sales");
+        when(repository.findEmailOwners(any())).thenReturn(List.<Object[]>of(new Object[]{9L, "taken@example.com"}));
+        when(repository.save(any(Employee.class))).thenAnswer(invocation -> {
+            Employee saved = invocation.getArgument(0);
+            saved.setId(100L);
+            return saved;
+        });
+
+        BulkOperationResponse response = service.bulkCreateEmployees(List.of(
+                request("new@example.com", "Sales"), invalid, request("new@example.com", "Sales"),
+                request("taken@example.com", "Sales")));
+
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkItemResult::getStatus).containsExactly(
+                BulkItemResult.Status.CREATED, BulkItemResult.Status.FAILED, BulkItemResult.Status.FAILED, BulkItemResult.Status.FAILED);
+        assertThat(response.getResults().get(1).getFieldErrors()).containsKey("email");
+        assertThat(response.getResults().get(2).getError()).isEqualTo("Duplicate email new@example.com in request");
+        assertThat(response.getResults().get(3).getError()).isEqualTo("Employee with email taken@example.com already exists");
+        verify(repository, times(1)).save(any(Employee.class));
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void bulkCreateLosingAnEmailRaceRejectsTheWholeBatch() {
+        when(repository.findEmailOwners(any())).thenReturn(List.of());
+        when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("flush failed", emailViolation())).when(repository).flush();
+
+        assertThatThrownBy(() -> service.bulkCreateEmployees(List.of(request("new@example.com", "Sales"))))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("nothing was written");
+    }
+
+    @Test
+    void bulkRequestsMustHoldBetweenOneAndMaxItems() {
+        assertThatThrownBy(() -> service.bulkCreateEmployees(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.bulkDeleteEmployees(LongStream.rangeClosed(1, 11).boxed().toList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum of 10");
+    }
+
+    @Test
+    void bulkUpdateChecksIdsEmailsAndExistence() {
+        Employee alice = employee(1L, "Sales", 0L);
+        when(repository.findEmailOwners(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, "alice@example.com"}, new Object[]{9L, "bob@example.com"}));
+        when(repository.findAllById(any())).thenReturn(List.of(alice, employee(3L, "Sales", 0L)));
+
+        BulkOperationResponse response = service.bulkUpdateEmployees(List.of(
+                new EmployeeBulkUpdateItem(1L, request("alice@example.com", "Finance")),
+                new EmployeeBulkUpdateItem(1L, request("other@example.com", "Finance")),
+                new EmployeeBulkUpdateItem(2L, request("alice@example.com", "Finance")),
+                new EmployeeBulkUpdateItem(3L, request("bob@example.com", "Finance")),
+                new EmployeeBulkUpdateItem(4L, request("dora@example.com", "Finance")),
+                new EmployeeBulkUpdateItem(null, request("eve@example.com", "Finance"))));
+
+        List<BulkItemResult> results = response.getResults();
+        assertThat(results.get(0).getStatus()).isEqualTo(BulkItemResult.Status.UPDATED);
+        assertThat(results.get(1).getError()).isEqualTo("Duplicate id 1 in request");
+        assertThat(results.get(2).getError()).isEqualTo("Duplicate email alice@example.com in request");
+        assertThat(results.get(3).getError()).isEqualTo("Employee with email bob@example.com already exists");
+        assertThat(results.get(4).getError()).isEqualTo("Employee not found with id: 4");
+        assertThat(results.get(5).getFieldErrors()).containsKey("id");
+        assertThat(alice.getDepartment()).isEqualTo("Finance");
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.previous().getDepartment()).isEqualTo("Sales");
+            assertThat(event.current().getDepartment()).isEqualTo("Finance");
+        });
+    }
+
+    @Test
+    void bulkUpdateVersionConflictRejectsTheWholeBatch() {
+        when(repository.findEmailOwners(any())).thenReturn(List.of());
+        when(repository.findAllById(any())).thenReturn(List.of(employee(1L, "Sales", 0L)));
+        doThrow(new ObjectOptimisticLockingFailureException(Employee.class, 1L)).when(repository).flush();
+
+        assertThatThrownBy(() -> service.bulkUpdateEmployees(List.of(
+                new EmployeeBulkUpdateItem(1L, request("alice@example.com", "Finance")))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void bulkUpdateLosingAnEmailRaceRejectsTheWholeBatch() {
+        when(repository.findEmailOwners(any())).thenReturn(List.of());
+        when(repository.findAllById(any())).thenReturn(List.of(employee(1L, "Sales", 0L)));
+        doThrow(new DataIntegrityViolationException("flush failed", emailViolation())).when(repository).flush();
+
+        assertThatThrownBy(() -> service.bulkUpdateEmployees(List.of(
+                new EmployeeBulkUpdateItem(1L, request("alice@example.com", "Finance")))))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("retry the whole batch");
+    }
+
+    @Test
+    void bulkDeleteReportsMissingAndDuplicateIds() {
+        when(repository.findAllById(any())).thenReturn(List.of(employee(1L, "Sales", 0L)));
+
+        BulkOperationResponse response = service.bulkDeleteEmployees(Arrays.asList(1L, 2L, 1L, null));
+
+        assertThat(response.getResults()).extracting(BulkItemResult::getError).containsExactly(
+                null, "Employee not found with id: 2", "Duplicate id 1 in request", "ID is required");
+        verify(repository).deleteAllInBatch(argThat(deleted -> deleted.iterator().next().getId().equals(1L)));
+        assertThat(events).singleElement().satisfies(event -> assertThat(event.id()).isEqualTo(1L));
+    }
+
+    private static PSQLException emailViolation() {
+        return new PSQLException(new ServerErrorMessage(
+                "SERROR\0C23505\0Mduplicate key value violates unique constraint\0nemployees_email_key\0"));
+    }
+
+    private static EmployeeRequest request(String email, String department) {
+        return new EmployeeRequest("Alice Smith", "Engineer", department, new BigDecimal("1000.00"), email,
+                "5551234567", LocalDate.of(2024, 1, 15));
+    }
+
+    private static Employee employee(Long id, String department, Long version) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        employee.setDepartment(department);
+        employee.setEmail("e" + id + "@example.com");
+        employee.setVersion(version);
+        return employee;
+    }
+}
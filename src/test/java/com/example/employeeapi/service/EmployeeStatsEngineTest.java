@@ -0,0 +1,91 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.event.SnapshotReader;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.model.EmployeeStatsResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeStatsEngineTest {
+
+    // No events arrive during these rebuilds, so every row lookup can answer "not seen"
+    private static final SnapshotReader SAME_TRANSACTION = new SnapshotReader() {
+        @Override
+        public <R> R inSnapshot(Supplier<R> work) {
+            return work.get();
+        }
+
+        @Override
+        public Map<Long, RowState> rowStates(Collection<Long> ids) {
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> RowState.ABSENT));
+        }
+    };
+
+    private EmployeeStatsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findSalaryDistributionByDepartment()).thenReturn(List.of(
+                new Object[]{"Engineering", new BigDecimal("100.00"), 2L},
+                new Object[]{"Sales", new BigDecimal("50.00"), 1L}
+        ));
+        engine = new EmployeeStatsEngine(repository, SAME_TRANSACTION);
+        engine.rebuild();
+    }
+
+    @Test
+    void rebuildsFromGroupedRows() {
+        EmployeeStatsResponse stats = engine.snapshot();
+        assertThat(stats.getTotalEmployees()).isEqualTo(3);
+        assertThat(stats.getAverageSalary()).isEqualTo(250.0 / 3, offset(1e-9));
+        assertThat(stats.getHighestSalary()).isEqualByComparingTo("100.00");
+        assertThat(stats.getDepartmentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void maxSurvivesDeleteOfTopEarner() {
+        EmployeeResponse top = employee(10L, "Engineering", "500.00");
+        engine.onEmployeeChanged(EmployeeChangedEvent.created(top));
+        assertThat(engine.snapshot().getHighestSalary()).isEqualByComparingTo("500.00");
+
+        engine.onEmployeeChanged(EmployeeChangedEvent.deleted(top));
+        assertThat(engine.snapshot().getHighestSalary()).isEqualByComparingTo("100.00");
+        assertThat(engine.snapshot().getTotalEmployees()).isEqualTo(3);
+    }
+
+    @Test
+    void departmentMoveUpdatesDepartmentCount() {
+        EmployeeResponse before = employee(3L, "Sales", "50.00");
+        EmployeeResponse after = employee(3L, "Engineering", "60.00");
+        engine.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        EmployeeStatsResponse stats = engine.snapshot();
+        assertThat(stats.getDepartmentCount()).isEqualTo(1);
+        assertThat(stats.getTotalEmployees()).isEqualTo(3);
+        assertThat(stats.getAverageSalary()).isEqualTo(260.0 / 3, offset(1e-9));
+    }
+
+    private static EmployeeResponse employee(Long id, String department, String salary) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setDepartment(department);
+        response.setSalary(new BigDecimal(salary));
+        return response;
+    }
+}
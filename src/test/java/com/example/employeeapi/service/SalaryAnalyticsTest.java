@@ -0,0 +1,106 @@
+package com.example.employeeapi.service;
+
+import com.example.employeeapi.event.EmployeeChangedEvent;
+import com.example.employeeapi.event.SnapshotReader;
+import com.example.employeeapi.model.EmployeeResponse;
+import com.example.employeeapi.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SalaryAnalyticsTest {
+
+    // No events arrive during these rebuilds, so every row lookup can answer "not seen"
+    private static final SnapshotReader SAME_TRANSACTION = new SnapshotReader() {
+        @Override
+        public <R> R inSnapshot(Supplier<R> work) {
+            return work.get();
+        }
+
+        @Override
+        public Map<Long, RowState> rowStates(Collection<Long> ids) {
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> RowState.ABSENT));
+        }
+    };
+
+    private SalaryAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findSalaryDistributionByDepartmentOrdered()).thenReturn(List.of(
+                new Object[]{"Engineering", new BigDecimal("100.00"), 8L},
+                new Object[]{"Engineering", new BigDecimal("200.00"), 1L},
+                new Object[]{"Engineering", new BigDecimal("900.50"), 1L},
+                new Object[]{"Sales", new BigDecimal("50.00"), 2L}
+        ));
+        analytics = new SalaryAnalytics(repository, SAME_TRANSACTION);
+        analytics.rebuild();
+    }
+
+    @Test
+    void quantilesUseNearestRank() {
+        SalaryAnalytics.Distribution engineering = analytics.snapshot().departments().get("Engineering");
+
+        assertThat(engineering.count()).isEqualTo(10);
+        assertThat(engineering.quantile(0.5)).isEqualTo(10_000);
+        assertThat(engineering.quantile(0.9)).isEqualTo(20_000);
+        assertThat(engineering.quantile(0.99)).isEqualTo(90_050);
+        assertThat(engineering.sum()).isEqualTo(8 * 10_000 + 20_000 + 90_050);
+    }
+
+    @Test
+    void countBelowSupportsHistogramBuckets() {
+        SalaryAnalytics.Distribution overall = analytics.snapshot().overall();
+
+        assertThat(overall.min()).isEqualTo(5_000);
+        assertThat(overall.max()).isEqualTo(90_050);
+        assertThat(overall.countBelow(5_000)).isZero();
+        assertThat(overall.countBelow(10_001)).isEqualTo(10);
+        assertThat(overall.countBelow(90_051)).isEqualTo(12);
+    }
+
+    @Test
+    void writesRefreshOnlyTheAffectedDepartments() {
+        SalaryAnalytics.Distribution salesBefore = analytics.snapshot().departments().get("Sales");
+
+        EmployeeResponse before = employee(1L, "Engineering", "900.50");
+        EmployeeResponse after = employee(1L, "Finance", "300.00");
+        analytics.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        SalaryAnalytics.Snapshot snapshot = analytics.snapshot();
+        assertThat(snapshot.departments().get("Sales")).isSameAs(salesBefore);
+        assertThat(snapshot.departments().get("Engineering").max()).isEqualTo(20_000);
+        assertThat(snapshot.departments().get("Finance").count()).isEqualTo(1);
+        assertThat(snapshot.overall().max()).isEqualTo(30_000);
+        assertThat(snapshot.overall().count()).isEqualTo(12);
+    }
+
+    @Test
+    void lastEmployeeLeavingRemovesDepartment() {
+        analytics.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(2L, "Sales", "50.00")));
+        analytics.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(3L, "Sales", "50.00")));
+
+        assertThat(analytics.snapshot().departments()).doesNotContainKey("Sales");
+        assertThat(analytics.snapshot().overall().min()).isEqualTo(10_000);
+    }
+
+    private static EmployeeResponse employee(Long id, String department, String salary) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setDepartment(department);
+        response.setSalary(new BigDecimal(salary));
+        return response;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.employeeapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TombstoneRetentionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TombstoneRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:tombstones-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE employee_tombstones (
+                    change_seq BIGINT NOT NULL PRIMARY KEY, employee_id BIGINT NOT NULL,
+                    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL)
+                """);
+        jdbcTemplate.execute("CREATE TABLE employee_sync_horizon (id SMALLINT NOT NULL PRIMARY KEY, purged_through BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO employee_sync_horizon (id, purged_through) VALUES (1, 0)");
+        retention = new TombstoneRetention(jdbcTemplate, new DataSourceTransactionManager(dataSource), Duration.ofDays(30));
+    }
+
+    @Test
+    void purgesOldTombstonesAndRecordsTheHorizon() {
+        tombstone(3, Duration.ofDays(40));
+        tombstone(5, Duration.ofDays(35));
+        tombstone(8, Duration.ofDays(1));
+
+        assertThat(retention.purgeOlderThan(Instant.now().minus(Duration.ofDays(30)))).isEqualTo(2);
+        assertThat(retention.purgedThrough()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT change_seq FROM employee_tombstones", Long.class)).containsExactly(8L);
+    }
+
+    @Test
+    void repeatedPurgeKeepsTheHorizon() {
+        tombstone(5, Duration.ofDays(40));
+        retention.purge();
+
+        assertThat(retention.purgeOlderThan(Instant.now().minus(Duration.ofDays(30)))).isZero();
+        assertThat(retention.purgedThrough()).isEqualTo(5);
+    }
+
+    @Test
+    void nothingPurgedLeavesHorizonAtZero() {
+        tombstone(2, Duration.ofDays(1));
+
+        retention.purge();
+
+        assertThat(retention.purgedThrough()).isZero();
+    }
+
+    private void tombstone(long changeSeq, Duration age) {
+        jdbcTemplate.update("INSERT INTO employee_tombstones (change_seq, employee_id, changed_at) VALUES (?, ?, ?)",
+                changeSeq, changeSeq * 10, Timestamp.from(Instant.now().minus(age)));
+    }
+}